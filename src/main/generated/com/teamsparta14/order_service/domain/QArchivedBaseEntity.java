@@ -0,0 +1,51 @@
+package com.teamsparta14.order_service.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QArchivedBaseEntity is a Querydsl query type for ArchivedBaseEntity
+ */
+@Generated("com.querydsl.codegen.DefaultSupertypeSerializer")
+public class QArchivedBaseEntity extends EntityPathBase<ArchivedBaseEntity> {
+
+    private static final long serialVersionUID = 205365456L;
+
+    public static final QArchivedBaseEntity archivedBaseEntity = new QArchivedBaseEntity("archivedBaseEntity");
+
+    public final DateTimePath<java.time.LocalDateTime> archivedAt = createDateTime("archivedAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final StringPath createdBy = createString("createdBy");
+
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = createDateTime("deletedAt", java.time.LocalDateTime.class);
+
+    public final StringPath deletedBy = createString("deletedBy");
+
+    public final BooleanPath isDeleted = createBoolean("isDeleted");
+
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = createDateTime("modifiedAt", java.time.LocalDateTime.class);
+
+    public final StringPath modifiedBy = createString("modifiedBy");
+
+    public QArchivedBaseEntity(String variable) {
+        super(ArchivedBaseEntity.class, forVariable(variable));
+    }
+
+    public QArchivedBaseEntity(Path<? extends ArchivedBaseEntity> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QArchivedBaseEntity(PathMetadata metadata) {
+        super(ArchivedBaseEntity.class, metadata);
+    }
+
+}
+
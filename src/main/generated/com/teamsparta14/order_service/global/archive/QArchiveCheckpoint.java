@@ -0,0 +1,43 @@
+package com.teamsparta14.order_service.global.archive;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QArchiveCheckpoint is a Querydsl query type for ArchiveCheckpoint
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QArchiveCheckpoint extends EntityPathBase<ArchiveCheckpoint> {
+
+    private static final long serialVersionUID = -2122152605L;
+
+    public static final QArchiveCheckpoint archiveCheckpoint = new QArchiveCheckpoint("archiveCheckpoint");
+
+    public final NumberPath<Long> archivedCount = createNumber("archivedCount", Long.class);
+
+    public final StringPath job = createString("job");
+
+    public final ComparablePath<java.util.UUID> lastId = createComparable("lastId", java.util.UUID.class);
+
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = createDateTime("updatedAt", java.time.LocalDateTime.class);
+
+    public QArchiveCheckpoint(String variable) {
+        super(ArchiveCheckpoint.class, forVariable(variable));
+    }
+
+    public QArchiveCheckpoint(Path<? extends ArchiveCheckpoint> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QArchiveCheckpoint(PathMetadata metadata) {
+        super(ArchiveCheckpoint.class, metadata);
+    }
+
+}
+
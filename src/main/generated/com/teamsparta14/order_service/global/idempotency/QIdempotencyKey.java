@@ -0,0 +1,47 @@
+package com.teamsparta14.order_service.global.idempotency;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QIdempotencyKey is a Querydsl query type for IdempotencyKey
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QIdempotencyKey extends EntityPathBase<IdempotencyKey> {
+
+    private static final long serialVersionUID = 1578331270L;
+
+    public static final QIdempotencyKey idempotencyKey = new QIdempotencyKey("idempotencyKey");
+
+    public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> expiresAt = createDateTime("expiresAt", java.time.LocalDateTime.class);
+
+    public final StringPath key = createString("key");
+
+    public final StringPath requestHash = createString("requestHash");
+
+    public final StringPath responseBody = createString("responseBody");
+
+    public final EnumPath<IdempotencyStatus> status = createEnum("status", IdempotencyStatus.class);
+
+    public QIdempotencyKey(String variable) {
+        super(IdempotencyKey.class, forVariable(variable));
+    }
+
+    public QIdempotencyKey(Path<? extends IdempotencyKey> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QIdempotencyKey(PathMetadata metadata) {
+        super(IdempotencyKey.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,88 @@
+package com.teamsparta14.order_service.order.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QMyOrder is a Querydsl query type for MyOrder
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QMyOrder extends EntityPathBase<MyOrder> {
+
+    private static final long serialVersionUID = 1287633607L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QMyOrder myOrder = new QMyOrder("myOrder");
+
+    public final com.teamsparta14.order_service.domain.QBaseEntity _super = new com.teamsparta14.order_service.domain.QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    public final ComparablePath<java.util.UUID> destId = createComparable("destId", java.util.UUID.class);
+
+    //inherited
+    public final BooleanPath isDeleted = _super.isDeleted;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
+
+    //inherited
+    public final StringPath modifiedBy = _super.modifiedBy;
+
+    public final StringPath orderComment = createString("orderComment");
+
+    public final ComparablePath<java.util.UUID> orderId = createComparable("orderId", java.util.UUID.class);
+
+    public final ListPath<OrderProduct, QOrderProduct> orderProducts = this.<OrderProduct, QOrderProduct>createList("orderProducts", OrderProduct.class, QOrderProduct.class, PathInits.DIRECT2);
+
+    public final EnumPath<com.teamsparta14.order_service.order.dto.OrderType> orderType = createEnum("orderType", com.teamsparta14.order_service.order.dto.OrderType.class);
+
+    public final com.teamsparta14.order_service.payment.entity.QPayment payment;
+
+    public final ComparablePath<java.util.UUID> storeId = createComparable("storeId", java.util.UUID.class);
+
+    public final StringPath userName = createString("userName");
+
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
+    public QMyOrder(String variable) {
+        this(MyOrder.class, forVariable(variable), INITS);
+    }
+
+    public QMyOrder(Path<? extends MyOrder> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QMyOrder(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QMyOrder(PathMetadata metadata, PathInits inits) {
+        this(MyOrder.class, metadata, inits);
+    }
+
+    public QMyOrder(Class<? extends MyOrder> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.payment = inits.isInitialized("payment") ? new com.teamsparta14.order_service.payment.entity.QPayment(forProperty("payment")) : null;
+    }
+
+}
+
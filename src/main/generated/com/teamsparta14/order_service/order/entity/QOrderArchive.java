@@ -0,0 +1,75 @@
+package com.teamsparta14.order_service.order.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QOrderArchive is a Querydsl query type for OrderArchive
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QOrderArchive extends EntityPathBase<OrderArchive> {
+
+    private static final long serialVersionUID = 1323043567L;
+
+    public static final QOrderArchive orderArchive = new QOrderArchive("orderArchive");
+
+    public final com.teamsparta14.order_service.domain.QArchivedBaseEntity _super = new com.teamsparta14.order_service.domain.QArchivedBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> archivedAt = _super.archivedAt;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    public final ComparablePath<java.util.UUID> destId = createComparable("destId", java.util.UUID.class);
+
+    //inherited
+    public final BooleanPath isDeleted = _super.isDeleted;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
+
+    //inherited
+    public final StringPath modifiedBy = _super.modifiedBy;
+
+    public final StringPath orderComment = createString("orderComment");
+
+    public final ComparablePath<java.util.UUID> orderId = createComparable("orderId", java.util.UUID.class);
+
+    public final EnumPath<com.teamsparta14.order_service.order.dto.OrderType> orderType = createEnum("orderType", com.teamsparta14.order_service.order.dto.OrderType.class);
+
+    public final ComparablePath<java.util.UUID> paymentId = createComparable("paymentId", java.util.UUID.class);
+
+    public final ComparablePath<java.util.UUID> storeId = createComparable("storeId", java.util.UUID.class);
+
+    public final StringPath userName = createString("userName");
+
+    public QOrderArchive(String variable) {
+        super(OrderArchive.class, forVariable(variable));
+    }
+
+    public QOrderArchive(Path<? extends OrderArchive> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QOrderArchive(PathMetadata metadata) {
+        super(OrderArchive.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,57 @@
+package com.teamsparta14.order_service.order.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QOrderProduct is a Querydsl query type for OrderProduct
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QOrderProduct extends EntityPathBase<OrderProduct> {
+
+    private static final long serialVersionUID = 1761670940L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QOrderProduct orderProduct = new QOrderProduct("orderProduct");
+
+    public final QMyOrder order;
+
+    public final ComparablePath<java.util.UUID> order_product_id = createComparable("order_product_id", java.util.UUID.class);
+
+    public final NumberPath<Long> price = createNumber("price", Long.class);
+
+    public final ComparablePath<java.util.UUID> productId = createComparable("productId", java.util.UUID.class);
+
+    public final NumberPath<Long> quantity = createNumber("quantity", Long.class);
+
+    public QOrderProduct(String variable) {
+        this(OrderProduct.class, forVariable(variable), INITS);
+    }
+
+    public QOrderProduct(Path<? extends OrderProduct> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QOrderProduct(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QOrderProduct(PathMetadata metadata, PathInits inits) {
+        this(OrderProduct.class, metadata, inits);
+    }
+
+    public QOrderProduct(Class<? extends OrderProduct> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.order = inits.isInitialized("order") ? new QMyOrder(forProperty("order"), inits.get("order")) : null;
+    }
+
+}
+
@@ -0,0 +1,47 @@
+package com.teamsparta14.order_service.order.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QOrderProductArchive is a Querydsl query type for OrderProductArchive
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QOrderProductArchive extends EntityPathBase<OrderProductArchive> {
+
+    private static final long serialVersionUID = 1284344326L;
+
+    public static final QOrderProductArchive orderProductArchive = new QOrderProductArchive("orderProductArchive");
+
+    public final DateTimePath<java.time.LocalDateTime> archivedAt = createDateTime("archivedAt", java.time.LocalDateTime.class);
+
+    public final ComparablePath<java.util.UUID> orderId = createComparable("orderId", java.util.UUID.class);
+
+    public final ComparablePath<java.util.UUID> orderProductId = createComparable("orderProductId", java.util.UUID.class);
+
+    public final NumberPath<Long> price = createNumber("price", Long.class);
+
+    public final ComparablePath<java.util.UUID> productId = createComparable("productId", java.util.UUID.class);
+
+    public final NumberPath<Long> quantity = createNumber("quantity", Long.class);
+
+    public QOrderProductArchive(String variable) {
+        super(OrderProductArchive.class, forVariable(variable));
+    }
+
+    public QOrderProductArchive(Path<? extends OrderProductArchive> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QOrderProductArchive(PathMetadata metadata) {
+        super(OrderProductArchive.class, metadata);
+    }
+
+}
+
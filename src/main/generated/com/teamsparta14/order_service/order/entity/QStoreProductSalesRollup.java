@@ -0,0 +1,47 @@
+package com.teamsparta14.order_service.order.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QStoreProductSalesRollup is a Querydsl query type for StoreProductSalesRollup
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QStoreProductSalesRollup extends EntityPathBase<StoreProductSalesRollup> {
+
+    private static final long serialVersionUID = -79013349L;
+
+    public static final QStoreProductSalesRollup storeProductSalesRollup = new QStoreProductSalesRollup("storeProductSalesRollup");
+
+    public final DateTimePath<java.time.LocalDateTime> bucketStart = createDateTime("bucketStart", java.time.LocalDateTime.class);
+
+    public final EnumPath<RollupGranularity> granularity = createEnum("granularity", RollupGranularity.class);
+
+    public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
+
+    public final ComparablePath<java.util.UUID> productId = createComparable("productId", java.util.UUID.class);
+
+    public final NumberPath<Long> quantity = createNumber("quantity", Long.class);
+
+    public final ComparablePath<java.util.UUID> storeId = createComparable("storeId", java.util.UUID.class);
+
+    public QStoreProductSalesRollup(String variable) {
+        super(StoreProductSalesRollup.class, forVariable(variable));
+    }
+
+    public QStoreProductSalesRollup(Path<? extends StoreProductSalesRollup> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QStoreProductSalesRollup(PathMetadata metadata) {
+        super(StoreProductSalesRollup.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,49 @@
+package com.teamsparta14.order_service.order.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QStoreSalesRollup is a Querydsl query type for StoreSalesRollup
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QStoreSalesRollup extends EntityPathBase<StoreSalesRollup> {
+
+    private static final long serialVersionUID = -731983810L;
+
+    public static final QStoreSalesRollup storeSalesRollup = new QStoreSalesRollup("storeSalesRollup");
+
+    public final DateTimePath<java.time.LocalDateTime> bucketStart = createDateTime("bucketStart", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> cancelCount = createNumber("cancelCount", Long.class);
+
+    public final EnumPath<RollupGranularity> granularity = createEnum("granularity", RollupGranularity.class);
+
+    public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
+
+    public final NumberPath<Long> orderCount = createNumber("orderCount", Long.class);
+
+    public final NumberPath<Long> revenue = createNumber("revenue", Long.class);
+
+    public final ComparablePath<java.util.UUID> storeId = createComparable("storeId", java.util.UUID.class);
+
+    public QStoreSalesRollup(String variable) {
+        super(StoreSalesRollup.class, forVariable(variable));
+    }
+
+    public QStoreSalesRollup(Path<? extends StoreSalesRollup> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QStoreSalesRollup(PathMetadata metadata) {
+        super(StoreSalesRollup.class, metadata);
+    }
+
+}
+
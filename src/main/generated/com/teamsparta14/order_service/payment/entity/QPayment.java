@@ -0,0 +1,68 @@
+package com.teamsparta14.order_service.payment.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPayment is a Querydsl query type for Payment
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPayment extends EntityPathBase<Payment> {
+
+    private static final long serialVersionUID = 967307795L;
+
+    public static final QPayment payment = new QPayment("payment");
+
+    public final com.teamsparta14.order_service.domain.QBaseEntity _super = new com.teamsparta14.order_service.domain.QBaseEntity(this);
+
+    public final NumberPath<Long> amount = createNumber("amount", Long.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    //inherited
+    public final BooleanPath isDeleted = _super.isDeleted;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
+
+    //inherited
+    public final StringPath modifiedBy = _super.modifiedBy;
+
+    public final ComparablePath<java.util.UUID> paymentId = createComparable("paymentId", java.util.UUID.class);
+
+    public final EnumPath<PaymentStatus> paymentStatus = createEnum("paymentStatus", PaymentStatus.class);
+
+    public final StringPath userName = createString("userName");
+
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
+    public QPayment(String variable) {
+        super(Payment.class, forVariable(variable));
+    }
+
+    public QPayment(Path<? extends Payment> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPayment(PathMetadata metadata) {
+        super(Payment.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,69 @@
+package com.teamsparta14.order_service.payment.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPaymentArchive is a Querydsl query type for PaymentArchive
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPaymentArchive extends EntityPathBase<PaymentArchive> {
+
+    private static final long serialVersionUID = -1254384849L;
+
+    public static final QPaymentArchive paymentArchive = new QPaymentArchive("paymentArchive");
+
+    public final com.teamsparta14.order_service.domain.QArchivedBaseEntity _super = new com.teamsparta14.order_service.domain.QArchivedBaseEntity(this);
+
+    public final NumberPath<Long> amount = createNumber("amount", Long.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> archivedAt = _super.archivedAt;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    //inherited
+    public final BooleanPath isDeleted = _super.isDeleted;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
+
+    //inherited
+    public final StringPath modifiedBy = _super.modifiedBy;
+
+    public final ComparablePath<java.util.UUID> paymentId = createComparable("paymentId", java.util.UUID.class);
+
+    public final EnumPath<PaymentStatus> paymentStatus = createEnum("paymentStatus", PaymentStatus.class);
+
+    public final StringPath userName = createString("userName");
+
+    public QPaymentArchive(String variable) {
+        super(PaymentArchive.class, forVariable(variable));
+    }
+
+    public QPaymentArchive(Path<? extends PaymentArchive> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPaymentArchive(PathMetadata metadata) {
+        super(PaymentArchive.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,41 @@
+package com.teamsparta14.order_service.product.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QDescription is a Querydsl query type for Description
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QDescription extends EntityPathBase<Description> {
+
+    private static final long serialVersionUID = -2016888832L;
+
+    public static final QDescription description = new QDescription("description");
+
+    public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
+
+    public final StringPath request = createString("request");
+
+    public final StringPath response = createString("response");
+
+    public QDescription(String variable) {
+        super(Description.class, forVariable(variable));
+    }
+
+    public QDescription(Path<? extends Description> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QDescription(PathMetadata metadata) {
+        super(Description.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,43 @@
+package com.teamsparta14.order_service.product.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QProductPopularity is a Querydsl query type for ProductPopularity
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QProductPopularity extends EntityPathBase<ProductPopularity> {
+
+    private static final long serialVersionUID = 1802155656L;
+
+    public static final QProductPopularity productPopularity = new QProductPopularity("productPopularity");
+
+    public final DateTimePath<java.time.LocalDateTime> decayedAt = createDateTime("decayedAt", java.time.LocalDateTime.class);
+
+    public final ComparablePath<java.util.UUID> productId = createComparable("productId", java.util.UUID.class);
+
+    public final NumberPath<Double> score = createNumber("score", Double.class);
+
+    public final ComparablePath<java.util.UUID> storeId = createComparable("storeId", java.util.UUID.class);
+
+    public QProductPopularity(String variable) {
+        super(ProductPopularity.class, forVariable(variable));
+    }
+
+    public QProductPopularity(Path<? extends ProductPopularity> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QProductPopularity(PathMetadata metadata) {
+        super(ProductPopularity.class, metadata);
+    }
+
+}
+
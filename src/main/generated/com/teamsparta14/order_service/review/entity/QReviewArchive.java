@@ -0,0 +1,73 @@
+package com.teamsparta14.order_service.review.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QReviewArchive is a Querydsl query type for ReviewArchive
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QReviewArchive extends EntityPathBase<ReviewArchive> {
+
+    private static final long serialVersionUID = -78674971L;
+
+    public static final QReviewArchive reviewArchive = new QReviewArchive("reviewArchive");
+
+    public final com.teamsparta14.order_service.domain.QArchivedBaseEntity _super = new com.teamsparta14.order_service.domain.QArchivedBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> archivedAt = _super.archivedAt;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
+
+    //inherited
+    public final BooleanPath isDeleted = _super.isDeleted;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
+
+    //inherited
+    public final StringPath modifiedBy = _super.modifiedBy;
+
+    public final ComparablePath<java.util.UUID> orderId = createComparable("orderId", java.util.UUID.class);
+
+    public final StringPath review = createString("review");
+
+    public final EnumPath<Stars> star = createEnum("star", Stars.class);
+
+    public final ComparablePath<java.util.UUID> storeId = createComparable("storeId", java.util.UUID.class);
+
+    public final StringPath userName = createString("userName");
+
+    public QReviewArchive(String variable) {
+        super(ReviewArchive.class, forVariable(variable));
+    }
+
+    public QReviewArchive(Path<? extends ReviewArchive> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QReviewArchive(PathMetadata metadata) {
+        super(ReviewArchive.class, metadata);
+    }
+
+}
+
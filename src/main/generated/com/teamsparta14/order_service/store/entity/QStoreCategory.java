@@ -0,0 +1,75 @@
+package com.teamsparta14.order_service.store.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QStoreCategory is a Querydsl query type for StoreCategory
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QStoreCategory extends EntityPathBase<StoreCategory> {
+
+    private static final long serialVersionUID = -653631663L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QStoreCategory storeCategory = new QStoreCategory("storeCategory");
+
+    public final com.teamsparta14.order_service.domain.QBaseEntity _super = new com.teamsparta14.order_service.domain.QBaseEntity(this);
+
+    public final QCategory categoryId;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    //inherited
+    public final BooleanPath isDeleted = _super.isDeleted;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
+
+    //inherited
+    public final StringPath modifiedBy = _super.modifiedBy;
+
+    public final QStore storeId;
+
+    public QStoreCategory(String variable) {
+        this(StoreCategory.class, forVariable(variable), INITS);
+    }
+
+    public QStoreCategory(Path<? extends StoreCategory> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QStoreCategory(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QStoreCategory(PathMetadata metadata, PathInits inits) {
+        this(StoreCategory.class, metadata, inits);
+    }
+
+    public QStoreCategory(Class<? extends StoreCategory> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.categoryId = inits.isInitialized("categoryId") ? new QCategory(forProperty("categoryId")) : null;
+        this.storeId = inits.isInitialized("storeId") ? new QStore(forProperty("storeId"), inits.get("storeId")) : null;
+    }
+
+}
+
@@ -0,0 +1,66 @@
+package com.teamsparta14.order_service.user.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QAddressEntity is a Querydsl query type for AddressEntity
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QAddressEntity extends EntityPathBase<AddressEntity> {
+
+    private static final long serialVersionUID = -1857247233L;
+
+    public static final QAddressEntity addressEntity = new QAddressEntity("addressEntity");
+
+    public final com.teamsparta14.order_service.domain.QBaseEntity _super = new com.teamsparta14.order_service.domain.QBaseEntity(this);
+
+    public final StringPath address = createString("address");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    public final ComparablePath<java.util.UUID> id = createComparable("id", java.util.UUID.class);
+
+    //inherited
+    public final BooleanPath isDeleted = _super.isDeleted;
+
+    public final StringPath memo = createString("memo");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
+
+    //inherited
+    public final StringPath modifiedBy = _super.modifiedBy;
+
+    public final StringPath username = createString("username");
+
+    public QAddressEntity(String variable) {
+        super(AddressEntity.class, forVariable(variable));
+    }
+
+    public QAddressEntity(Path<? extends AddressEntity> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QAddressEntity(PathMetadata metadata) {
+        super(AddressEntity.class, metadata);
+    }
+
+}
+
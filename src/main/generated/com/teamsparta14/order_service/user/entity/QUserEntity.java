@@ -0,0 +1,71 @@
+package com.teamsparta14.order_service.user.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QUserEntity is a Querydsl query type for UserEntity
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QUserEntity extends EntityPathBase<UserEntity> {
+
+    private static final long serialVersionUID = -312831610L;
+
+    public static final QUserEntity userEntity = new QUserEntity("userEntity");
+
+    public final com.teamsparta14.order_service.domain.QBaseEntity _super = new com.teamsparta14.order_service.domain.QBaseEntity(this);
+
+    public final ListPath<AddressEntity, QAddressEntity> addresses = this.<AddressEntity, QAddressEntity>createList("addresses", AddressEntity.class, QAddressEntity.class, PathInits.DIRECT2);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final StringPath createdBy = _super.createdBy;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> deletedAt = _super.deletedAt;
+
+    //inherited
+    public final StringPath deletedBy = _super.deletedBy;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    //inherited
+    public final BooleanPath isDeleted = _super.isDeleted;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedAt = _super.modifiedAt;
+
+    //inherited
+    public final StringPath modifiedBy = _super.modifiedBy;
+
+    public final StringPath password = createString("password");
+
+    public final EnumPath<com.teamsparta14.order_service.global.enums.Role> role = createEnum("role", com.teamsparta14.order_service.global.enums.Role.class);
+
+    public final StringPath username = createString("username");
+
+    public final StringPath userNickname = createString("userNickname");
+
+    public QUserEntity(String variable) {
+        super(UserEntity.class, forVariable(variable));
+    }
+
+    public QUserEntity(Path<? extends UserEntity> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QUserEntity(PathMetadata metadata) {
+        super(UserEntity.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,88 @@
+package com.teamsparta14.order_service.config;
+
+import com.teamsparta14.order_service.global.datasource.ReadYourWritesInterceptor;
+import com.teamsparta14.order_service.global.datasource.ReplicaLagMonitor;
+import com.teamsparta14.order_service.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+//datasource.replica.jdbc-url 이 있을 때만 원본/복제본 라우팅 (없으면 spring.datasource 하나만 사용)
+//원본: spring.datasource.*, spring.datasource.hikari.*
+//복제본: datasource.replica.jdbc-url, username, password, maximum-pool-size ... (HikariConfig 속성)
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.jdbc-url")
+public class DataSourceRoutingConfig implements WebMvcConfigurer {
+
+    @Value("${datasource.replica.max-lag-ms:1000}")
+    private long maxLagMs;
+
+    @Value("${datasource.replica.lag-check-timeout-seconds:2}")
+    private int lagCheckTimeoutSeconds;
+
+    @Value("${datasource.replica.read-your-writes-ms:3000}")
+    private long readYourWritesMs;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica) {
+        return new ReplicaLagMonitor(replica, maxLagMs, lagCheckTimeoutSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    //트랜잭션이 끝나면 커넥션을 돌려줌 (open-in-view로 세션이 요청 내내 열려 있어도 트랜잭션마다 원본/복제본을 다시 고르도록)
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor() {
+        return new ReadYourWritesInterceptor(readYourWritesMs);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesInterceptor());
+    }
+}
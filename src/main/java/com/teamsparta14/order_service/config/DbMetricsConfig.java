@@ -0,0 +1,73 @@
+package com.teamsparta14.order_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+//DB 접근 지표
+//커넥션 풀(풀별 pool 태그): hikaricp.connections.acquire(대기), usage(점유), creation 시간 분포 + timeout 횟수
+//레포지토리 메서드: db.repository.query (RepositoryQueryTimingAspect)
+//문장/쿼리 계획 캐시: hibernate.* (HibernateStatementMetrics, db.metrics.hibernate-statistics=true 일 때만)
+@Configuration
+public class DbMetricsConfig {
+
+    private static final String[] HISTOGRAM_PREFIXES = {"hikaricp.connections.", "db.repository.query"};
+
+    //커넥션을 이 시간 이상 잡고 있으면 Hikari가 잡은 위치의 스택과 함께 경고 로그를 남김
+    //(트랜잭션 안에서 외부 호출을 하는 곳을 찾는 용도) 기본은 꺼짐(0)
+    //켤 때는 가장 오래 걸리는 정상 트랜잭션(매출 재집계, 보관 이동 배치, 리뷰 요약 스트리밍)보다 길게 잡아야 오탐이 없음
+    //spring.datasource.hikari.leak-detection-threshold 로 따로 지정하면 그 값을 씀
+    @Bean
+    public static BeanPostProcessor hikariLeakDetection(Environment environment) {
+        long thresholdMs = environment.getProperty("db.pool.long-held-connection-ms", Long.class, 0L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (thresholdMs > 0 && bean instanceof HikariDataSource dataSource && dataSource.getLeakDetectionThreshold() == 0) {
+                    dataSource.setLeakDetectionThreshold(thresholdMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    //대기/점유/쿼리 시간은 평균보다 꼬리가 중요하므로 히스토그램으로 내보냄
+    @Bean
+    public MeterFilter dbHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                for (String prefix : HISTOGRAM_PREFIXES) {
+                    if (id.getName().startsWith(prefix)) {
+                        return DistributionStatisticConfig.builder()
+                                .percentilesHistogram(true)
+                                .percentiles(0.5, 0.95, 0.99)
+                                .build()
+                                .merge(config);
+                    }
+                }
+                return config;
+            }
+        };
+    }
+
+    //Hibernate 통계는 모든 세션/쿼리마다 집계 비용이 들어 기본은 꺼짐, 필요한 환경에서만 db.metrics.hibernate-statistics=true
+    //꺼져 있으면 spring.jpa.properties.hibernate.generate_statistics 설정을 그대로 둠
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer(
+            @Value("${db.metrics.hibernate-statistics:false}") boolean enabled) {
+        return properties -> {
+            if (enabled) {
+                properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            }
+        };
+    }
+}
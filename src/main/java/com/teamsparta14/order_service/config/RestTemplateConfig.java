@@ -1,19 +1,26 @@
 package com.teamsparta14.order_service.config;
 
+import com.teamsparta14.order_service.global.client.RemoteCallGuard;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
-//    @Bean
-//    public RestTemplate restTemplate() {
-//        return new RestTemplate();
-//    }
+    //외부 호출은 모두 이 빈을 통해 (트랜잭션 안 호출 감시)
+    @Bean
+    public RestTemplate restTemplate(RemoteCallGuard remoteCallGuard) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(remoteCallGuard);
+        return restTemplate;
+    }
 
     @Bean
-    public RestClient restClient (){
-        return RestClient.builder().build();
+    public RestClient restClient(RemoteCallGuard remoteCallGuard) {
+        return RestClient.builder()
+                .requestInterceptor(remoteCallGuard)
+                .build();
     }
 }
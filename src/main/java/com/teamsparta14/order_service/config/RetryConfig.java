@@ -0,0 +1,10 @@
+package com.teamsparta14.order_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+//@Retryable 활성화 (재시도 어드바이스가 트랜잭션 바깥에서 동작)
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
@@ -1,19 +1,24 @@
 package com.teamsparta14.order_service.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamsparta14.order_service.global.enums.Role;
 import com.teamsparta14.order_service.user.jwt.CustomLogoutFilter;
 import com.teamsparta14.order_service.user.jwt.JWTFilter;
 import com.teamsparta14.order_service.user.jwt.JWTUtil;
 import com.teamsparta14.order_service.user.jwt.LoginFilter;
-import com.teamsparta14.order_service.user.repository.RefreshRepository;
+import com.teamsparta14.order_service.user.service.LoginAttemptLimiter;
+import com.teamsparta14.order_service.user.service.PasswordHashExecutor;
+import com.teamsparta14.order_service.user.service.RefreshTokenStore;
 import com.teamsparta14.order_service.user.service.TokenReissueService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -27,6 +32,7 @@ import java.util.Arrays;
 import java.util.Collections;
 
 @Configuration
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -34,22 +40,27 @@ public class SecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
     private final TokenReissueService tokenReissueService;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
         return configuration.getAuthenticationManager();
     }
+    //비용을 올리면 기존 사용자는 다음 로그인 때 새 비용으로 다시 해시된다 (CustomUserDetailsService.updatePassword)
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
         // Custom LoginFilter 등록
-        LoginFilter loginFilter = new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, tokenReissueService);
+        LoginFilter loginFilter = new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, tokenReissueService,
+                passwordHashExecutor, loginAttemptLimiter, objectMapper);
         loginFilter.setFilterProcessesUrl("/api/auth/login"); // 엔드포인트를 /api/login으로 변경
 
         http
@@ -78,12 +89,14 @@ public class SecurityConfig {
                             .requestMatchers("/api/user/list/{username}").hasRole("MASTER")
                             .requestMatchers(HttpMethod.GET, "/api/products/**").permitAll()
                             .requestMatchers(HttpMethod.POST, "/api/products/search").permitAll()
-                            .requestMatchers("/api/products/**").hasAnyRole("OWNER", "MASTER")
+                            .requestMatchers("/api/products/**").hasAnyRole("OWNER", "MANAGER", "MASTER")
                             .requestMatchers(HttpMethod.GET, "/api/reviews/**").permitAll()
                             .requestMatchers("/api/reviews/**").hasRole("USER")
                             .requestMatchers(HttpMethod.DELETE,"/api/orders/**").hasAnyRole("MASTER","USER")
                             .requestMatchers(HttpMethod.GET,"/api/orders/{store_id}/orders").hasAnyRole("OWNER","MASTER")
+                            .requestMatchers(HttpMethod.GET,"/api/orders/{store_id}/sales").hasAnyRole("OWNER","MASTER")
                             .requestMatchers("/api/orders/**").hasAnyRole("USER","MASTER")
+                            .requestMatchers("/api/payments/settlements").hasRole("MASTER")
                             .requestMatchers("/api/payments/**").hasAnyRole("USER","MASTER")
                             .anyRequest().authenticated()  // 그 외 모든 요청은 인증 필요
                 )
@@ -97,10 +110,10 @@ public class SecurityConfig {
                 .addFilterBefore(new JWTFilter(jwtUtil), LoginFilter.class);
 
         http
-                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, tokenReissueService), UsernamePasswordAuthenticationFilter.class);
+                .addFilterAt(loginFilter, UsernamePasswordAuthenticationFilter.class);
 
         http
-                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshRepository), LogoutFilter.class);
+                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenStore), LogoutFilter.class);
 
         //세션 설정
         http
@@ -1,6 +1,5 @@
 package com.teamsparta14.order_service.config;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 
@@ -8,8 +7,5 @@ import static org.springframework.data.web.config.EnableSpringDataWebSupport.Pag
 
 @EnableSpringDataWebSupport(pageSerializationMode = VIA_DTO)
 @Configuration
-public class ModelMapperConfig {
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
+public class WebConfig {
 }
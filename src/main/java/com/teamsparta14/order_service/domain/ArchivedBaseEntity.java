@@ -0,0 +1,38 @@
+package com.teamsparta14.order_service.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//보관(archive) 테이블 공통 컬럼 - 원본 BaseEntity 컬럼을 그대로 옮기고 보관 시각만 더함
+//보관 행은 읽기 전용이므로 감사(auditing) 리스너와 soft-delete 필터를 붙이지 않음
+@Getter
+@MappedSuperclass
+public abstract class ArchivedBaseEntity {
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "created_by", length = 100)
+    private String createdBy;
+
+    @Column(name = "modified_at")
+    private LocalDateTime modifiedAt;
+
+    @Column(name = "modified_by", length = 100)
+    private String modifiedBy;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "deleted_by", length = 100)
+    private String deletedBy;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean isDeleted;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
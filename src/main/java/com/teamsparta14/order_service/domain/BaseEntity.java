@@ -5,6 +5,9 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -13,12 +16,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+//삭제된 행은 모든 엔티티 조회(HQL/QueryDSL, 컬렉션 로딩)에서 자동으로 빠짐 (em.find/findById에는 적용되지 않음)
+//삭제된 행까지 읽어야 하면 SoftDeleteFilter.includingDeleted 사용
 @Getter
 @Setter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
+@FilterDef(name = BaseEntity.SOFT_DELETE_FILTER, defaultCondition = "is_deleted = false", autoEnabled = true)
+@Filter(name = BaseEntity.SOFT_DELETE_FILTER)
 public abstract class BaseEntity{
 
+    public static final String SOFT_DELETE_FILTER = "softDeleteFilter";
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -39,8 +48,14 @@ public abstract class BaseEntity{
     @Column(length = 100)
     private String deletedBy;
 
-    public void setDeleted(LocalDateTime deletedAt, String deletedBy){
-        this.deletedAt = deletedAt;
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean isDeleted;
+
+    //삭제 여부, 삭제 시각, 삭제한 사람을 함께 기록
+    public void softDelete(String deletedBy){
+        this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
         this.deletedBy = deletedBy;
     }
-}
\ No newline at end of file
+}
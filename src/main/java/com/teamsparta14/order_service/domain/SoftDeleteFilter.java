@@ -0,0 +1,36 @@
+package com.teamsparta14.order_service.domain;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+//삭제된 행까지 읽어야 하는 조회(매출 재집계, 취소 주문 재고 복구 등)에서만 soft-delete 필터를 잠시 끔
+//필터는 세션 단위이므로 트랜잭션 안에서 실행 (호출하는 쪽 트랜잭션이 있으면 그대로 참여)
+@Component
+@RequiredArgsConstructor
+public class SoftDeleteFilter {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public <T> T includingDeleted(Supplier<T> query) {
+        return transactionTemplate.execute(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            boolean enabled = session.getEnabledFilter(BaseEntity.SOFT_DELETE_FILTER) != null;
+            if (enabled) {
+                session.disableFilter(BaseEntity.SOFT_DELETE_FILTER);
+            }
+            try {
+                return query.get();
+            } finally {
+                if (enabled) {
+                    session.enableFilter(BaseEntity.SOFT_DELETE_FILTER);
+                }
+            }
+        });
+    }
+}
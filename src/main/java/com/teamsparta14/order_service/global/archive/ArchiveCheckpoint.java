@@ -0,0 +1,33 @@
+package com.teamsparta14.order_service.global.archive;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//보관 작업별 진행 상황 (배치마다 같은 트랜잭션에서 갱신되므로 중간에 멈춰도 여기까지는 옮겨진 상태)
+//행 추가/갱신은 ArchiveCheckpointRepository.advance 로만 한다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_archive_checkpoint")
+public class ArchiveCheckpoint {
+
+    @Id
+    @Column(name = "job", length = 30)
+    private String job;
+
+    //지금까지 옮긴 행 수 (주문 작업은 주문 수)
+    @Column(name = "archived_count", nullable = false)
+    private Long archivedCount;
+
+    //마지막 배치에서 가장 나중에 옮긴 행 id
+    @Column(name = "last_id")
+    private UUID lastId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
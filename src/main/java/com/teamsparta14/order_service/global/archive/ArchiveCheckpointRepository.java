@@ -0,0 +1,22 @@
+package com.teamsparta14.order_service.global.archive;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ArchiveCheckpointRepository extends JpaRepository<ArchiveCheckpoint, String> {
+
+    //배치 하나를 옮긴 뒤 진행 상황 누적 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO p_archive_checkpoint (job, archived_count, last_id, updated_at) " +
+            "VALUES (:job, :count, :lastId, now()) " +
+            "ON CONFLICT (job) DO UPDATE SET " +
+            "archived_count = p_archive_checkpoint.archived_count + EXCLUDED.archived_count, " +
+            "last_id = EXCLUDED.last_id, updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int advance(@Param("job") String job, @Param("count") long count, @Param("lastId") UUID lastId);
+}
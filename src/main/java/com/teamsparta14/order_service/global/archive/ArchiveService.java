@@ -0,0 +1,129 @@
+package com.teamsparta14.order_service.global.archive;
+
+import com.teamsparta14.order_service.order.repository.OrderArchiveRepository;
+import com.teamsparta14.order_service.order.repository.OrderProductArchiveRepository;
+import com.teamsparta14.order_service.payment.repository.PaymentArchiveRepository;
+import com.teamsparta14.order_service.review.repository.ReviewArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+//오래된 주문(주문 상품, 결제 포함)과 삭제된 지 오래된 주문/리뷰를 보관 테이블로 옮김
+//배치 하나(복사 + 원본 삭제 + 진행 상황 기록)가 한 트랜잭션이므로 어느 배치에서 멈춰도 다시 실행하면 이어서 진행됨
+//삭제되지 않은 리뷰는 오래돼도 옮기지 않음 (p_review에서 빠지면 uk_review_store_user_active가 가게당 리뷰 하나를 막지 못함)
+//삭제 행 보관 기간은 매출 재집계 기간(sales.rollup.rebuild-days)보다 길어야 함 (취소 건수를 삭제된 주문에서 다시 셈)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveService {
+
+    static final String ORDER_JOB = "order";
+    static final String REVIEW_JOB = "review";
+
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderProductArchiveRepository orderProductArchiveRepository;
+    private final PaymentArchiveRepository paymentArchiveRepository;
+    private final ReviewArchiveRepository reviewArchiveRepository;
+    private final ArchiveCheckpointRepository archiveCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${archive.order-retention-days:365}")
+    private int orderRetentionDays;
+
+    @Value("${archive.deleted-retention-days:30}")
+    private int deletedRetentionDays;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    //한 번 실행에서 처리할 최대 배치 수 (남은 행은 다음 실행에서)
+    @Value("${archive.max-batches:200}")
+    private int maxBatches;
+
+    @Scheduled(cron = "${archive.cron:0 0 5 * * *}")
+    public void archive() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deletedBefore = now.minusDays(deletedRetentionDays);
+
+        int orders = archiveOrders(now.minusDays(orderRetentionDays), deletedBefore);
+        int reviews = archiveReviews(deletedBefore);
+
+        if (orders > 0 || reviews > 0) {
+            log.info("보관 완료: 주문 {}건, 리뷰 {}건", orders, reviews);
+        }
+    }
+
+    public int archiveOrders(LocalDateTime createdBefore, LocalDateTime deletedBefore) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer moved = transactionTemplate.execute(status -> moveOrderBatch(createdBefore, deletedBefore));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    public int archiveReviews(LocalDateTime deletedBefore) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer moved = transactionTemplate.execute(status -> moveReviewBatch(deletedBefore));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    //주문 상품 -> 주문 -> 결제 순서로 지움 (외래 키 방향)
+    private int moveOrderBatch(LocalDateTime createdBefore, LocalDateTime deletedBefore) {
+        List<UUID> orderIds = orderArchiveRepository.findArchivableOrderIds(createdBefore, deletedBefore, batchSize);
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        List<UUID> paymentIds = orderArchiveRepository.findPaymentIdsByOrderIds(orderIds);
+
+        orderProductArchiveRepository.copyByOrderIds(orderIds);
+        orderArchiveRepository.copyOrders(orderIds);
+        if (!paymentIds.isEmpty()) {
+            paymentArchiveRepository.copyPayments(paymentIds);
+        }
+
+        orderProductArchiveRepository.deleteByOrderIds(orderIds);
+        orderArchiveRepository.deleteOrders(orderIds);
+        if (!paymentIds.isEmpty()) {
+            paymentArchiveRepository.deletePayments(paymentIds);
+        }
+
+        archiveCheckpointRepository.advance(ORDER_JOB, orderIds.size(), orderIds.get(orderIds.size() - 1));
+        return orderIds.size();
+    }
+
+    private int moveReviewBatch(LocalDateTime deletedBefore) {
+        List<UUID> reviewIds = reviewArchiveRepository.findArchivableReviewIds(deletedBefore, batchSize);
+        if (reviewIds.isEmpty()) {
+            return 0;
+        }
+
+        reviewArchiveRepository.copyReviews(reviewIds);
+        reviewArchiveRepository.deleteReviews(reviewIds);
+
+        archiveCheckpointRepository.advance(REVIEW_JOB, reviewIds.size(), reviewIds.get(reviewIds.size() - 1));
+        return reviewIds.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.teamsparta14.order_service.global.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+
+//트랜잭션 안에서 외부 HTTP 호출을 하면 DB 커넥션을 잡은 채 네트워크 지연을 기다리게 됨
+//기본은 경고 로그 + remote.call.inside.transaction 카운트, remote-call.fail-inside-transaction=true(테스트 등)면 호출 전에 예외
+//RestTemplateConfig의 RestTemplate/RestClient에 등록되어 모든 외부 호출에 적용
+@Slf4j
+@Component
+public class RemoteCallGuard implements ClientHttpRequestInterceptor {
+
+    private final boolean failInsideTransaction;
+    private final Counter insideTransactionCounter;
+
+    public RemoteCallGuard(@Value("${remote-call.fail-inside-transaction:false}") boolean failInsideTransaction,
+                           MeterRegistry meterRegistry) {
+        this.failInsideTransaction = failInsideTransaction;
+        this.insideTransactionCounter = Counter.builder("remote.call.inside.transaction")
+                .description("트랜잭션 안에서 실행된 외부 HTTP 호출 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            insideTransactionCounter.increment();
+            //쿼리 문자열(API 키 등)은 남기지 않음
+            String message = "트랜잭션 안에서 외부 호출: " + request.getMethod() + " " + request.getURI().getHost() + request.getURI().getPath();
+            if (failInsideTransaction) {
+                throw new IllegalStateException(message);
+            }
+            log.warn(message);
+        }
+        return execution.execute(request, body);
+    }
+}
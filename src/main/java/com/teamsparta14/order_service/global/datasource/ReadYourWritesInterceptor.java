@@ -0,0 +1,74 @@
+package com.teamsparta14.order_service.global.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+//본인이 쓰기 요청을 성공한 뒤 pinMs 동안은 그 유저의 읽기를 원본으로 (복제 지연으로 방금 쓴 내용이 안 보이지 않도록)
+//고정 정보는 인스턴스 메모리에만 있으므로 여러 인스턴스 환경에서는 같은 인스턴스로 온 요청에만 적용됨
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final long pinMs;
+
+    public ReadYourWritesInterceptor(long pinMs) {
+        this.pinMs = pinMs;
+    }
+
+    //현재 요청 스레드가 원본으로 읽어야 하는지
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String username = currentUsername();
+        if (username != null) {
+            Long until = pinnedUntil.get(username);
+            if (until != null && until > System.currentTimeMillis()) {
+                PRIMARY_PINNED.set(true);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        try {
+            if (ex == null && !READ_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+                String username = currentUsername();
+                if (username != null) {
+                    pinnedUntil.put(username, System.currentTimeMillis() + pinMs);
+                }
+            }
+        } finally {
+            PRIMARY_PINNED.remove();
+        }
+    }
+
+    //만료된 고정 정보 정리
+    @Scheduled(fixedDelayString = "${datasource.replica.read-your-writes-cleanup-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,62 @@
+package com.teamsparta14.order_service.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+//복제본 지연(ms)을 주기적으로 확인, 허용치를 넘거나 연결이 안 되면 읽기도 원본으로
+//첫 확인 전에는 원본으로 읽음
+@Slf4j
+public class ReplicaLagMonitor {
+
+    //받은 WAL을 모두 재생했으면 0 (쓰기가 없는 동안 마지막 재생 시각만 보고 지연으로 오판하지 않도록)
+    //복제본 주소가 원본을 가리키면(개발 환경) 항상 0
+    private static final String LAG_SQL = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE((EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint, 0) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMs;
+
+    private volatile boolean replicaUsable = false;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagMs, int queryTimeoutSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        this.maxLagMs = maxLagMs;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        boolean usable;
+        try {
+            Long lagMs = currentLagMs();
+            usable = lagMs != null && lagMs <= maxLagMs;
+            if (!usable && replicaUsable) {
+                log.warn("복제본 지연 {}ms (허용 {}ms), 원본으로 읽음", lagMs, maxLagMs);
+            }
+        } catch (DataAccessException e) {
+            usable = false;
+            if (replicaUsable) {
+                log.warn("복제본 확인 실패, 원본으로 읽음: {}", e.getMessage());
+            }
+        }
+
+        if (usable && !replicaUsable) {
+            log.info("복제본 읽기 재개");
+        }
+        replicaUsable = usable;
+    }
+
+    //복제본에서 잰 현재 지연 (ms)
+    protected Long currentLagMs() {
+        return replicaJdbcTemplate.queryForObject(LAG_SQL, Long.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.teamsparta14.order_service.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+//읽기 전용 트랜잭션은 복제본, 나머지(쓰기, 트랜잭션 밖 조회)는 원본으로 보냄
+//복제 지연이 크거나 본인이 방금 쓴 요청이면 읽기 전용이라도 원본
+//트랜잭션 시작 후 첫 쿼리 시점에 결정되어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesInterceptor.isPrimaryPinned()
+                && replicaLagMonitor.isReplicaUsable()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
@@ -2,26 +2,52 @@ package com.teamsparta14.order_service.global.exception;
 
 import com.teamsparta14.order_service.global.response.ApiResponse;
 import com.teamsparta14.order_service.global.response.ResponseCode;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
 import org.hibernate.MappingException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.w3c.dom.stylesheets.LinkStyle;
 
 import java.util.ArrayList;
 import java.util.List;
 
-//@RestControllerAdvice(annotations = {RestController.class})
+@Slf4j
+@RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    // ✅ 데이터 무결성 예외 처리 (중복된 이메일, 유저명 등)
+    private static final String JOIN_PATH_PREFIX = "/api/auth/join/";
+
+    // ✅ 데이터 무결성 예외 처리 (회원가입의 중복된 유저명/이메일만 회원 중복으로 응답)
     @ExceptionHandler(DataIntegrityViolationException.class)
-    public ResponseEntity<ApiResponse<String>> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.fail(ResponseCode.USER_ALREADY_EXIST,"이미 존재하는 회원입니다."));
+    public ResponseEntity<ApiResponse<String>> handleDataIntegrityViolationException(DataIntegrityViolationException ex, HttpServletRequest request) {
+        if (request.getRequestURI().startsWith(JOIN_PATH_PREFIX)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.fail(ResponseCode.USER_ALREADY_EXIST,"이미 존재하는 회원입니다."));
+        }
+        log.warn("데이터 무결성 위반 {}: {}", request.getRequestURI(), ex.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.fail(ResponseCode.DATA_CONFLICT, ResponseCode.DATA_CONFLICT.getMessage()));
+    }
+
+    // ✅ 잘못된 요청 값 (서비스 검증 실패, 읽을 수 없는 JSON, 형식이 맞지 않는 경로/쿼리 값)
+    @ExceptionHandler({IllegalArgumentException.class, HttpMessageNotReadableException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ApiResponse<String>> handleBadRequestException(Exception ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.fail(ResponseCode.BAD_REQUEST, ex.getMessage()));
+    }
+
+    // ✅ 낙관적 락 충돌 (재시도 후에도 실패한 경우)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<String>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.fail(ResponseCode.CONCURRENT_MODIFICATION, "동시에 수정 요청이 들어왔습니다."));
     }
 
     // ✅ 모델 매핑 오류 처리
@@ -39,7 +65,12 @@ public class GlobalExceptionHandler {
 
     // ✅ 모든 예외에 대한 처리 (최후의 방어)
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<String>> handleGlobalException(Exception ex) {
+    public ResponseEntity<ApiResponse<String>> handleGlobalException(Exception ex) throws Exception {
+        // 권한 오류(403)와 스프링 MVC 표준 예외(400, 404, 405 등)는 기존 처리 흐름으로 넘김
+        if (ex instanceof AccessDeniedException || ex instanceof ErrorResponse) {
+            throw ex;
+        }
+        log.error("처리되지 않은 예외", ex);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.fail(ResponseCode.INTERNAL_SERVER_ERROR ,"서버 오류가 발생했습니다."));
     }
 
@@ -0,0 +1,99 @@
+package com.teamsparta14.order_service.global.idempotency;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+//멱등 처리 중인 요청의 쓰기 트랜잭션이 커밋될 때 같은 트랜잭션 안에서 키를 완료 상태로 바꾼다
+//커밋 후 응답 저장(complete)이 실패하거나 서버가 죽어도, 재시도 요청이 같은 작업을 다시 실행하지 않도록
+//스프링 부트가 TransactionExecutionListener 빈을 트랜잭션 매니저에 등록한다
+@Component
+public class IdempotencyCommitListener implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Pending> PENDING = new ThreadLocal<>();
+
+    //트랜잭션 매니저보다 먼저 만들어지지 않도록 호출 시점에 꺼냄
+    private final ObjectProvider<IdempotencyKeyRepository> idempotencyKeyRepository;
+
+    public IdempotencyCommitListener(ObjectProvider<IdempotencyKeyRepository> idempotencyKeyRepository) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+    }
+
+    //action 실행 동안 현재 스레드에 키를 묶어 둔다
+    void bind(String key, LocalDateTime expiresAt) {
+        PENDING.set(new Pending(key, expiresAt));
+    }
+
+    //action의 쓰기 트랜잭션이 커밋되어 키가 완료 처리됐는지
+    boolean isCommitted() {
+        Pending pending = PENDING.get();
+        return pending != null && pending.committed;
+    }
+
+    void unbind() {
+        PENDING.remove();
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        Pending pending = PENDING.get();
+        if (pending == null || beginFailure != null) {
+            return;
+        }
+
+        pending.depth++;
+
+        //바깥쪽 쓰기 트랜잭션에만 건다 (안쪽 REQUIRES_NEW, 읽기 전용, 이미 커밋된 경우 제외)
+        //재시도(@Retryable)로 트랜잭션이 다시 열리면 다시 건다
+        if (pending.depth > 1 || pending.committed || transaction.isReadOnly()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                idempotencyKeyRepository.getObject().markCommitted(pending.key, pending.expiresAt);
+            }
+
+            @Override
+            public void afterCommit() {
+                pending.committed = true;
+            }
+        });
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        leave();
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        leave();
+    }
+
+    private void leave() {
+        Pending pending = PENDING.get();
+        if (pending != null && pending.depth > 0) {
+            pending.depth--;
+        }
+    }
+
+    private static final class Pending {
+
+        private final String key;
+        private final LocalDateTime expiresAt;
+        private int depth;
+        private boolean committed;
+
+        private Pending(String key, LocalDateTime expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.teamsparta14.order_service.global.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    //키 선점 (이미 있으면 0 반환), 처리 중 상태의 expires_at은 처리 제한 시간
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO p_idempotency_key (idempotency_key, request_hash, status, expires_at, created_at) " +
+            "VALUES (:key, :requestHash, 'IN_PROGRESS', :expiresAt, :now) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key,
+                       @Param("requestHash") String requestHash,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("now") LocalDateTime now);
+
+    //처리 완료 응답 저장
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.status = com.teamsparta14.order_service.global.idempotency.IdempotencyStatus.COMPLETED, " +
+            "k.responseBody = :responseBody, k.expiresAt = :expiresAt WHERE k.key = :key")
+    int complete(@Param("key") String key,
+                 @Param("responseBody") String responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    //action의 쓰기 트랜잭션 안에서 완료 표시 (응답 본문은 커밋 후 complete로 저장)
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.status = com.teamsparta14.order_service.global.idempotency.IdempotencyStatus.COMPLETED, " +
+            "k.expiresAt = :expiresAt WHERE k.key = :key")
+    int markCommitted(@Param("key") String key, @Param("expiresAt") LocalDateTime expiresAt);
+
+    //처리 실패 시 키 반환 (클라이언트가 같은 키로 다시 시도할 수 있도록)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.key = :key AND k.status = com.teamsparta14.order_service.global.idempotency.IdempotencyStatus.IN_PROGRESS")
+    int release(@Param("key") String key);
+
+    //만료된 키 삭제
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.key = :key AND k.expiresAt < :now")
+    int deleteIfExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
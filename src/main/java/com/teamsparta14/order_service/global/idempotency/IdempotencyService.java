@@ -0,0 +1,174 @@
+package com.teamsparta14.order_service.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamsparta14.order_service.global.exception.BaseException;
+import com.teamsparta14.order_service.global.response.ResponseCode;
+import com.teamsparta14.order_service.global.util.HashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+//Idempotency-Key 헤더로 들어온 재시도 요청은 처리 결과를 그대로 돌려준다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_HOT_KEYS = 10_000;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyCommitListener idempotencyCommitListener;
+    private final ObjectMapper objectMapper;
+
+    //최근 완료된 응답 (DB 조회 없이 바로 재응답)
+    private final Map<String, CachedResponse> hotKeys = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    //처리 중인 키를 다른 요청이 넘겨받을 수 있을 때까지의 시간 (처리 도중 서버가 죽은 경우)
+    //가장 오래 걸리는 요청(외부 호출 타임아웃 + 재시도 포함)보다 충분히 길어야 처리 중인 요청이 중복 실행되지 않는다
+    @Value("${idempotency.in-progress-timeout-minutes:10}")
+    private long inProgressTimeoutMinutes;
+
+    public <T> T execute(String scope, String idempotencyKey, Object request, Class<T> responseType, Supplier<T> action) {
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BaseException(ResponseCode.BAD_REQUEST, "Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        //같은 키라도 사용자, API가 다르면 다른 요청
+        String key = HashUtil.sha256Hex(scope + ":" + currentUsername() + ":" + idempotencyKey);
+        String requestHash = HashUtil.sha256Hex(toJson(request));
+        LocalDateTime now = LocalDateTime.now();
+
+        CachedResponse cached = hotKeys.get(key);
+        if (cached != null && !cached.isExpired(now)) {
+            return replay(cached.requestHash(), cached.responseBody(), requestHash, responseType);
+        }
+
+        if (!claim(key, requestHash, now)) {
+            IdempotencyKey existing = idempotencyKeyRepository.findById(key).orElse(null);
+
+            if (existing != null && !existing.isExpired(now)) {
+                //먼저 들어온 같은 요청이 아직 처리 중
+                if (existing.getStatus() == IdempotencyStatus.IN_PROGRESS) {
+                    throw new BaseException(ResponseCode.IDEMPOTENCY_IN_PROGRESS);
+                }
+
+                //작업은 커밋됐지만 응답 저장 전에 실패한 경우 다시 실행하지 않는다
+                if (existing.getResponseBody() == null) {
+                    if (!existing.getRequestHash().equals(requestHash)) {
+                        throw new BaseException(ResponseCode.IDEMPOTENCY_KEY_REUSED);
+                    }
+                    throw new BaseException(ResponseCode.IDEMPOTENCY_ALREADY_PROCESSED);
+                }
+
+                remember(key, existing.getRequestHash(), existing.getResponseBody(), existing.getExpiresAt());
+                return replay(existing.getRequestHash(), existing.getResponseBody(), requestHash, responseType);
+            }
+
+            //만료된 키(또는 그 사이 반환된 키)는 정리 후 한 번 더 선점
+            if (existing != null) {
+                idempotencyKeyRepository.deleteIfExpired(key, now);
+            }
+
+            if (!claim(key, requestHash, now)) {
+                throw new BaseException(ResponseCode.IDEMPOTENCY_IN_PROGRESS);
+            }
+        }
+
+        //action의 쓰기 트랜잭션이 커밋될 때 같은 트랜잭션에서 키가 완료 상태가 된다
+        T response;
+        idempotencyCommitListener.bind(key, LocalDateTime.now().plusHours(ttlHours));
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            //커밋 전에 실패한 경우만 키 반환 (release는 처리 중 상태인 키만 지움)
+            if (!idempotencyCommitListener.isCommitted()) {
+                idempotencyKeyRepository.release(key);
+            }
+            throw e;
+        } finally {
+            idempotencyCommitListener.unbind();
+        }
+
+        //응답 본문 저장 (쓰기 트랜잭션이 없던 action은 여기서 완료 처리)
+        String responseBody = toJson(response);
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(ttlHours);
+        idempotencyKeyRepository.complete(key, responseBody, expiresAt);
+        remember(key, requestHash, responseBody, expiresAt);
+
+        return response;
+    }
+
+    //만료된 키 정리 (메모리, DB)
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:600000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+
+        hotKeys.values().removeIf(cached -> cached.isExpired(now));
+        int deleted = idempotencyKeyRepository.deleteExpired(now);
+
+        if (deleted > 0) {
+            log.info("만료된 멱등성 키 {}건 삭제", deleted);
+        }
+    }
+
+    private boolean claim(String key, String requestHash, LocalDateTime now) {
+        return idempotencyKeyRepository.insertIfAbsent(key, requestHash, now.plusMinutes(inProgressTimeoutMinutes), now) == 1;
+    }
+
+    private <T> T replay(String storedRequestHash, String responseBody, String requestHash, Class<T> responseType) {
+
+        //같은 키로 다른 내용을 보낸 경우 이전 응답을 돌려주지 않는다
+        if (!storedRequestHash.equals(requestHash)) {
+            throw new BaseException(ResponseCode.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        try {
+            return objectMapper.readValue(responseBody, responseType);
+        } catch (JsonProcessingException e) {
+            throw new BaseException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void remember(String key, String requestHash, String responseBody, LocalDateTime expiresAt) {
+        if (hotKeys.size() >= MAX_HOT_KEYS) {
+            //가득 차면 새 키는 DB에서만 조회 (정리 스케줄에서 공간 확보)
+            return;
+        }
+        hotKeys.put(key, new CachedResponse(requestHash, responseBody, expiresAt));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new BaseException("멱등성 처리를 위한 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "" : authentication.getName();
+    }
+
+    private record CachedResponse(String requestHash, String responseBody, LocalDateTime expiresAt) {
+
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.teamsparta14.order_service.global.idempotency;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
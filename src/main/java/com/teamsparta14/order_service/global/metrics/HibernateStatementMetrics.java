@@ -0,0 +1,46 @@
+package com.teamsparta14.order_service.global.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+//Hibernate 쿼리 계획 캐시 / 문장 준비 횟수 (hibernate.generate_statistics 가 켜져 있을 때만 값이 쌓임)
+//hit 대비 miss가 계속 늘면 매번 다른 HQL 문자열이 만들어지고 있다는 뜻 (IN 절 크기, 동적 정렬 등)
+//PgJDBC 서버 측 prepared statement 캐시는 spring.datasource.hikari.data-source-properties 의
+//prepareThreshold, preparedStatementCacheQueries 로 조정
+@Component
+public class HibernateStatementMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateStatementMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("hibernate.query.plan.cache", statistics, Statistics::getQueryPlanCacheHitCount)
+                .description("HQL 쿼리 계획 캐시 조회 (result=hit|miss)")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.query.plan.cache", statistics, Statistics::getQueryPlanCacheMissCount)
+                .description("HQL 쿼리 계획 캐시 조회 (result=hit|miss)")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("hibernate.statements", statistics, Statistics::getPrepareStatementCount)
+                .description("JDBC 문장 수 (status=prepared|closed)")
+                .tag("status", "prepared")
+                .register(registry);
+        FunctionCounter.builder("hibernate.statements", statistics, Statistics::getCloseStatementCount)
+                .description("JDBC 문장 수 (status=prepared|closed)")
+                .tag("status", "closed")
+                .register(registry);
+        FunctionCounter.builder("hibernate.connections.obtained", statistics, Statistics::getConnectCount)
+                .description("세션이 커넥션을 얻은 횟수")
+                .register(registry);
+    }
+}
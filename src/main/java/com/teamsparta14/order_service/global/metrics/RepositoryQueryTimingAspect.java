@@ -0,0 +1,42 @@
+package com.teamsparta14.order_service.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+//QueryDSL 레포지토리 구현체의 메서드별 실행 시간 (db.repository.query{repository, method, outcome})
+//커넥션 대기 시간까지 포함되므로 hikaricp.connections.acquire 와 같이 봐야 쿼리 자체 시간을 알 수 있음
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryQueryTimingAspect {
+
+    static final String METRIC = "db.repository.query";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.teamsparta14.order_service.order.repository.OrderRepositoryImpl) " +
+            "|| within(com.teamsparta14.order_service.product.repository.CustomProductRepositoryImpl) " +
+            "|| within(com.teamsparta14.order_service.review.repository.CustomReviewRepositoryImpl)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .description("레포지토리 메서드 실행 시간")
+                    .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -23,6 +23,18 @@ public enum ResponseCode {
 
     // 409 Conflict
     USER_ALREADY_EXIST(HttpStatus.CONFLICT, false, "이미 가입한 사용자입니다."),
+    REVIEW_ALREADY_EXIST(HttpStatus.CONFLICT, false, "이미 작성한 리뷰가 있습니다."),
+    DATA_CONFLICT(HttpStatus.CONFLICT, false, "이미 존재하거나 다른 데이터와 충돌하는 요청입니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, false, "다른 요청이 먼저 수정했습니다. 다시 시도해주세요."),
+    INVALID_PAYMENT_TRANSITION(HttpStatus.CONFLICT, false, "허용되지 않는 결제 상태 변경입니다."),
+    IDEMPOTENCY_IN_PROGRESS(HttpStatus.CONFLICT, false, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_ALREADY_PROCESSED(HttpStatus.CONFLICT, false, "이미 처리된 요청입니다. 처리 결과는 조회 API로 확인해주세요."),
+
+    // 422 Unprocessable Entity
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, false, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+
+    // 429 Too Many Requests
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, false, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, false, "서버에 오류가 발생하였습니다."),
@@ -0,0 +1,105 @@
+package com.teamsparta14.order_service.global.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+//p_order는 created_at 월별 범위 파티션 테이블
+//일반 테이블 -> 파티션 테이블 변환은 db/migration/partition_p_order.sql 로 운영자가 점검 시간에 직접 실행 (전체 행 복사 + 테이블 락)
+//여기서는 변환 여부만 확인하고, 변환된 경우 앞으로 쓸 달의 파티션을 미리 만들어 둠
+//변환 전(새 DB에서 ddl-auto가 만든 일반 테이블 포함)이면 경고만 남기고 관리하지 않음
+//order.partition.required=true 이면 변환 전일 때 애플리케이션이 시작되지 않음 (변환을 마친 운영 환경용)
+//기본(default) 파티션은 두지 않음 - 나중에 같은 구간 파티션을 만들 때 충돌하므로 months-ahead 만큼 앞서 만든다
+//모든 빈이 만들어진 뒤(ddl-auto 이후), 톰캣이 요청을 받기 전에 실행되고 파티션 생성이 실패하면 애플리케이션이 시작되지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPartitionManager implements SmartInitializingSingleton {
+
+    private static final String TABLE = "p_order";
+    private static final String MIGRATION_SCRIPT = "db/migration/partition_p_order.sql";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.partition.required:false}")
+    private boolean required;
+
+    @Value("${order.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            log.warn("{} 파티션 관리가 꺼져 있음 (order.partition.enabled=false)", TABLE);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            if (!tableExists() || !isPartitioned()) {
+                if (required) {
+                    throw new IllegalStateException(TABLE + " is not partitioned. Run " + MIGRATION_SCRIPT
+                            + " during a maintenance window, or set order.partition.required=false");
+                }
+                log.warn("{}이 파티션 테이블이 아니라 파티션 관리를 건너뜀 (변환: {})", TABLE, MIGRATION_SCRIPT);
+                return;
+            }
+            createPartitionsAhead(currentMonth());
+        });
+    }
+
+    //매일 앞으로 쓸 달의 파티션이 있는지 확인
+    @Scheduled(cron = "${order.partition.cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        if (!enabled) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            if (tableExists() && isPartitioned()) {
+                createPartitionsAhead(currentMonth());
+            }
+        });
+    }
+
+    //여러 인스턴스가 동시에 파티션을 만들지 않도록 (트랜잭션이 끝나면 자동 해제)
+    private void lock() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('p_order_partition'))");
+    }
+
+    private boolean tableExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('" + TABLE + "') IS NOT NULL", Boolean.class));
+    }
+
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('" + TABLE + "'))", Boolean.class));
+    }
+
+    //이번 달부터 current + monthsAhead 달까지 없는 파티션 생성
+    private void createPartitionsAhead(LocalDate currentMonth) {
+        LocalDate last = currentMonth.plusMonths(monthsAhead);
+        for (LocalDate month = currentMonth; !month.isAfter(last); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + "_" + month.format(PARTITION_SUFFIX) +
+                    " PARTITION OF " + TABLE +
+                    " FOR VALUES FROM ('" + month + "') TO ('" + month.plusMonths(1) + "')");
+        }
+    }
+
+    private LocalDate currentMonth() {
+        return LocalDate.now().withDayOfMonth(1);
+    }
+}
@@ -0,0 +1,35 @@
+package com.teamsparta14.order_service.global.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+//ddl-auto로 테이블이 만들어진 뒤 db/indexes.sql 실행
+//실패한 문장은 건너뛰고 경고만 남김 (인덱스가 없어도 서비스는 동작)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaIndexInitializer implements ApplicationRunner {
+
+    private static final String INDEX_SCRIPT = "db/indexes.sql";
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(INDEX_SCRIPT));
+        populator.setContinueOnError(true);
+
+        try {
+            populator.execute(dataSource);
+        } catch (RuntimeException e) {
+            log.warn("{} 실행 실패: {}", INDEX_SCRIPT, e.getMessage());
+        }
+    }
+}
@@ -1,22 +1,35 @@
 package com.teamsparta14.order_service.order.controller;
 
+import com.teamsparta14.order_service.global.exception.BaseException;
+import com.teamsparta14.order_service.global.idempotency.IdempotencyService;
 import com.teamsparta14.order_service.global.response.ApiResponse;
 import com.teamsparta14.order_service.global.response.ResponseCode;
 import com.teamsparta14.order_service.order.dto.OrderCreateDto;
 import com.teamsparta14.order_service.order.dto.OrderResponse;
 import com.teamsparta14.order_service.order.dto.OrderSearchDto;
 import com.teamsparta14.order_service.order.dto.OrderUpdateRequest;
+import com.teamsparta14.order_service.order.dto.StoreSalesResponseDto;
+import com.teamsparta14.order_service.order.entity.RollupGranularity;
 import com.teamsparta14.order_service.order.service.OrderService;
+import com.teamsparta14.order_service.user.dto.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.web.PagedModel;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.annotation.Secured;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,17 +40,25 @@ import java.util.UUID;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
 
 
 
     @Operation(summary = "주문 생성", description = "주문시 사용 API")
     @PostMapping
     public ResponseEntity<ApiResponse<OrderResponse>> createOrder(
-            @RequestBody OrderCreateDto createDto,
-            @RequestHeader(name = "access") String token
+            @RequestBody @Valid OrderCreateDto createDto,
+            @RequestHeader(name = "access") String token,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
     ){
 
-        return ResponseEntity.ok(ApiResponse.success(orderService.createOrder(createDto ,token)));
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(ApiResponse.success(orderService.createOrder(createDto ,token)));
+        }
+
+        //재시도 요청이면 주문을 다시 만들지 않고 처음 응답을 돌려줌
+        return ResponseEntity.ok(ApiResponse.success(idempotencyService.execute("order:create", idempotencyKey, createDto,
+                OrderResponse.class, () -> orderService.createOrder(createDto, token))));
     }
 
     @Operation(summary = "주문 삭제", description = "주문 삭제시 사용 API")
@@ -78,7 +99,7 @@ public class OrderController {
     @Operation(summary = "주문 수정", description = "주문 수정시 사용 API")
     @PutMapping
     public ResponseEntity<OrderResponse> updateOrder(
-            @RequestBody OrderUpdateRequest orderUpdateRequest,
+            @RequestBody @Valid OrderUpdateRequest orderUpdateRequest,
             @RequestHeader(name = "access") String token
     ){
 
@@ -102,19 +123,54 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(new PagedModel<>(orderService.searchOrdersByStoreId(storeId,token,page,limit,isAsc,orderBy))));
     }
 
+    //사장만 가능
+    @Operation(summary = "가게 매출 조회", description = "시간/일 단위 주문 수, 매출, 취소 건수와 인기 상품 조회 API")
+    @GetMapping("/{store_id}/sales")
+    public ResponseEntity<ApiResponse<StoreSalesResponseDto>> getStoreSales(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable(name = "store_id") UUID storeId,
+            @RequestParam(name = "granularity", defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "top", defaultValue = "5") int top){
+
+        return ResponseEntity.ok(ApiResponse.success(orderService.getStoreSales(storeId, granularity, from, to, top, userDetails)));
+    }
+
     @PostMapping("/search")
     public ResponseEntity<ApiResponse<OrderResponse>> searchOrder(@RequestBody OrderSearchDto requestDto) {
 
         return ResponseEntity.ok().body(ApiResponse.success(orderService.searchProduct(requestDto)));
     }
 
-    @ExceptionHandler({IllegalArgumentException.class})
+    @ExceptionHandler({IllegalArgumentException.class, MethodArgumentNotValidException.class})
     public ResponseEntity<ApiResponse<?>> exceptionHandlerIllegal(Exception e ){
 
         return ResponseEntity.badRequest().body(ApiResponse.fail(ResponseCode.BAD_REQUEST,e.getMessage()));
 
     }
 
+    @ExceptionHandler({BaseException.class})
+    public ResponseEntity<ApiResponse<?>> exceptionHandlerBase(BaseException e ){
+
+        return ResponseEntity.status(e.getErrorCode().getHttpStatus()).body(ApiResponse.fail(e.getErrorCode(),e.getMessage()));
+
+    }
+
+    @ExceptionHandler({AccessDeniedException.class})
+    public ResponseEntity<ApiResponse<?>> exceptionHandlerForbidden(AccessDeniedException e ){
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.fail(ResponseCode.FORBIDDEN,e.getMessage()));
+
+    }
+
+    @ExceptionHandler({ObjectOptimisticLockingFailureException.class})
+    public ResponseEntity<ApiResponse<?>> exceptionHandlerConflict(Exception e ){
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.fail(ResponseCode.CONCURRENT_MODIFICATION,e.getMessage()));
+
+    }
+
     @ExceptionHandler({Exception.class})
     public ResponseEntity<ApiResponse<?>> exceptionHandlerException(Exception e ){
 
@@ -2,6 +2,7 @@ package com.teamsparta14.order_service.order.dto;
 
 
 import com.teamsparta14.order_service.order.entity.MyOrder;
+import jakarta.validation.Valid;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -18,7 +19,7 @@ public class OrderCreateDto {
 
     private UUID storeId;
     private UUID destId;
-    private List<OrderProductRequest> orderProductRequests;
+    private List<@Valid OrderProductRequest> orderProductRequests;
     private OrderType orderType;
     private String orderComment;
 
@@ -26,7 +27,6 @@ public class OrderCreateDto {
         return MyOrder.builder()
                 .userName(userName)
                 .storeId(storeId)
-                .isDeleted(false)
                 .orderComment(orderComment)
                 .orderProducts(new ArrayList<>())
                 .destId(destId)
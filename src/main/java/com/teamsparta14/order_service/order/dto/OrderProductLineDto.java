@@ -0,0 +1,16 @@
+package com.teamsparta14.order_service.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+//매출 집계용 주문 상품 수량
+@Getter
+@AllArgsConstructor
+public class OrderProductLineDto {
+
+    private UUID orderId;
+    private UUID productId;
+    private Long quantity;
+}
@@ -2,6 +2,9 @@ package com.teamsparta14.order_service.order.dto;
 
 
 import com.teamsparta14.order_service.order.entity.OrderProduct;
+import com.teamsparta14.order_service.order.entity.OrderProductArchive;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.*;
 
 import java.util.UUID;
@@ -15,7 +18,11 @@ import java.util.UUID;
 public class OrderProductRequest {
 
     private UUID productId;
+
+    @NotNull
+    @Positive
     private Long quantity;
+
     private Long price;
 
     public static OrderProductRequest from(OrderProduct orderProduct){
@@ -28,4 +35,14 @@ public class OrderProductRequest {
 
     }
 
+    public static OrderProductRequest from(OrderProductArchive orderProduct){
+
+        return OrderProductRequest.builder()
+                .productId(orderProduct.getProductId())
+                .quantity(orderProduct.getQuantity())
+                .price(orderProduct.getPrice())
+                .build();
+
+    }
+
 }
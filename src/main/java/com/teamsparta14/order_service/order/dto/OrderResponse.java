@@ -1,8 +1,11 @@
 package com.teamsparta14.order_service.order.dto;
 
 import com.teamsparta14.order_service.order.entity.MyOrder;
+import com.teamsparta14.order_service.order.entity.OrderArchive;
+import com.teamsparta14.order_service.order.entity.OrderProductArchive;
 import com.teamsparta14.order_service.payment.dto.PaymentResponse;
 import com.teamsparta14.order_service.payment.entity.Payment;
+import com.teamsparta14.order_service.payment.entity.PaymentArchive;
 import lombok.*;
 
 import java.util.List;
@@ -37,4 +40,19 @@ public class OrderResponse {
                 .build();
 
     }
+
+    //보관된 주문 (결제 행이 없으면 paymentResponse는 null)
+    public static OrderResponse from(OrderArchive order, List<OrderProductArchive> orderProducts, PaymentArchive payment){
+        return OrderResponse.builder()
+                .orderId(order.getOrderId())
+                .userName(order.getUserName())
+                .storeId(order.getStoreId())
+                .orderProducts(orderProducts.stream().map(
+                        OrderProductRequest::from
+                ).toList())
+                .destId(order.getDestId())
+                .orderType(order.getOrderType())
+                .paymentResponse(payment != null ? PaymentResponse.from(payment) : null)
+                .build();
+    }
 }
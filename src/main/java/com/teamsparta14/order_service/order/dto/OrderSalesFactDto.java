@@ -0,0 +1,31 @@
+package com.teamsparta14.order_service.order.dto;
+
+import com.teamsparta14.order_service.payment.entity.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//매출 집계에 필요한 주문 정보만 조회
+@Getter
+@AllArgsConstructor
+public class OrderSalesFactDto {
+
+    private UUID orderId;
+    private UUID storeId;
+    private LocalDateTime createdAt;
+    private Long amount;
+    private PaymentStatus paymentStatus;
+    private Boolean isDeleted;
+
+    //결제 완료 후 취소되지 않은 주문
+    public boolean isSold() {
+        return paymentStatus == PaymentStatus.SUCCESS && !Boolean.TRUE.equals(isDeleted);
+    }
+
+    //주문 취소 또는 결제 실패/만료
+    public boolean isCancelled() {
+        return Boolean.TRUE.equals(isDeleted) || (paymentStatus != null && paymentStatus.releasesStock());
+    }
+}
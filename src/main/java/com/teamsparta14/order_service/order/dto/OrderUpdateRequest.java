@@ -1,6 +1,7 @@
 package com.teamsparta14.order_service.order.dto;
 
 
+import jakarta.validation.Valid;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -11,5 +12,5 @@ import java.util.UUID;
 @Setter
 public class OrderUpdateRequest {
     private UUID orderId;
-    private List<OrderProductRequest> orderProductRequests;
+    private List<@Valid OrderProductRequest> orderProductRequests;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.teamsparta14.order_service.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//재고 복구/인기 점수 차감용 주문 상품 수량 (주문 시각별)
+@Getter
+@AllArgsConstructor
+public class OrderedQuantityDto {
+
+    private UUID productId;
+    private LocalDateTime orderedAt;
+    private Long quantity;
+}
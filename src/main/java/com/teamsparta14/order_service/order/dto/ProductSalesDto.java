@@ -0,0 +1,14 @@
+package com.teamsparta14.order_service.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class ProductSalesDto {
+
+    private UUID productId;
+    private Long quantity;
+}
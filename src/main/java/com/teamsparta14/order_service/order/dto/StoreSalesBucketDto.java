@@ -0,0 +1,16 @@
+package com.teamsparta14.order_service.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class StoreSalesBucketDto {
+
+    private LocalDateTime bucketStart;
+    private Long orderCount;
+    private Long revenue;
+    private Long cancelCount;
+}
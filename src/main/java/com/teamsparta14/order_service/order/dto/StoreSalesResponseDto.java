@@ -0,0 +1,39 @@
+package com.teamsparta14.order_service.order.dto;
+
+import com.teamsparta14.order_service.order.entity.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+//가게 매출 대시보드 응답
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreSalesResponseDto {
+
+    private UUID storeId;
+    private RollupGranularity granularity;
+    private Long orderCount;
+    private Long revenue;
+    private Long cancelCount;
+    private List<StoreSalesBucketDto> buckets;
+    private List<ProductSalesDto> topProducts;
+
+    public static StoreSalesResponseDto of(UUID storeId, RollupGranularity granularity,
+                                           List<StoreSalesBucketDto> buckets, List<ProductSalesDto> topProducts) {
+        return StoreSalesResponseDto.builder()
+                .storeId(storeId)
+                .granularity(granularity)
+                .orderCount(buckets.stream().mapToLong(StoreSalesBucketDto::getOrderCount).sum())
+                .revenue(buckets.stream().mapToLong(StoreSalesBucketDto::getRevenue).sum())
+                .cancelCount(buckets.stream().mapToLong(StoreSalesBucketDto::getCancelCount).sum())
+                .buckets(buckets)
+                .topProducts(topProducts)
+                .build();
+    }
+}
@@ -7,6 +7,7 @@ import com.teamsparta14.order_service.payment.entity.Payment;
 import com.teamsparta14.order_service.payment.entity.PaymentStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UuidGenerator;
 
@@ -21,7 +22,8 @@ import java.util.UUID;
 @AllArgsConstructor
 @Entity
 @DynamicUpdate
-@Table(name = "p_order")
+//p_order는 created_at 월별 범위 파티션 테이블 (db/migration/partition_p_order.sql로 변환, OrderPartitionManager가 파티션 생성)
+@Table(name = "p_order", indexes = @Index(name = "idx_order_created_at", columnList = "created_at, order_id"))
 public class MyOrder extends BaseEntity {
 
     @Id
@@ -38,14 +40,17 @@ public class MyOrder extends BaseEntity {
     @Column(name = "dest_id", nullable = false)
     private UUID destId;
 
-    @Column(name = "is_deleted")
-    Boolean isDeleted;
-
     @Column(name = "order_comment", nullable = true, length = 1000)
     private String orderComment;
 
-    @OneToOne(cascade = CascadeType.ALL)
-    @JoinColumn(name = "payment_id")
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
+    //파티션 테이블에는 payment_id 단독 unique 키를 둘 수 없어 @OneToOne(unique 키 자동 생성) 대신 @ManyToOne으로 매핑
+    //결제 하나에 주문 하나는 (payment_id, created_at) 유일 키와 createPayment에서 지킴
+    @ManyToOne(cascade = CascadeType.ALL)
+    @JoinColumn(name = "payment_id", foreignKey = @ForeignKey(name = "fk_order_payment"))
     private Payment payment;
 
     @Column(name = "order_type")
@@ -60,7 +65,11 @@ public class MyOrder extends BaseEntity {
     }
 
 
+    //주문마다 결제를 새로 만듦 (다른 주문의 결제를 붙이지 않음)
     public void createPayment(){
+        if (this.payment != null) {
+            throw new IllegalStateException("Order already has a payment");
+        }
         this.payment = Payment.builder()
                 .paymentStatus(PaymentStatus.PENDING)
                 .amount(getAmount(orderProducts))
@@ -79,6 +88,7 @@ public class MyOrder extends BaseEntity {
     public void updateOrderProductList(List<OrderProduct> updateList) {
         this.orderProducts.clear();
         this.orderProducts.addAll(updateList);
+        this.payment.setAmount(getAmount(orderProducts));
     }
 
     public boolean isOwner(String userName){
@@ -0,0 +1,46 @@
+package com.teamsparta14.order_service.order.entity;
+
+import com.teamsparta14.order_service.domain.ArchivedBaseEntity;
+import com.teamsparta14.order_service.order.dto.OrderType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+//보관된 주문 (p_order에서 옮겨온 행, 행 추가는 OrderArchiveRepository.copyOrders 로만 한다)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Immutable
+@Table(name = "p_order_archive", indexes = {
+        @Index(name = "idx_order_archive_user_created", columnList = "user_name, created_at"),
+        @Index(name = "idx_order_archive_store_created", columnList = "store_id, created_at")
+})
+public class OrderArchive extends ArchivedBaseEntity {
+
+    @Id
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    @Column(name = "user_name", nullable = false)
+    private String userName;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "dest_id", nullable = false)
+    private UUID destId;
+
+    @Column(name = "order_comment", length = 1000)
+    private String orderComment;
+
+    @Column(name = "payment_id")
+    private UUID paymentId;
+
+    @Column(name = "order_type")
+    @Enumerated(EnumType.STRING)
+    private OrderType orderType;
+}
@@ -20,8 +20,9 @@ public class OrderProduct {
     @Column(name = "order_product_id")
     private UUID order_product_id;
 
+    //p_order는 월별 파티션 테이블이라 order_id 단독 unique 키가 없어 외래 키를 만들지 않음
     @ManyToOne
-    @JoinColumn(name = "order_id")
+    @JoinColumn(name = "order_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private MyOrder order;
 
     @Column(name = "product_id")
@@ -0,0 +1,40 @@
+package com.teamsparta14.order_service.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//보관된 주문 상품 (p_order_product에서 주문과 함께 옮겨온 행)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Immutable
+@Table(name = "p_order_product_archive", indexes = {
+        @Index(name = "idx_order_product_archive_order", columnList = "order_id")
+})
+public class OrderProductArchive {
+
+    @Id
+    @Column(name = "order_product_id")
+    private UUID orderProductId;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "product_id")
+    private UUID productId;
+
+    @Column(name = "quantity")
+    private Long quantity;
+
+    @Column(name = "price")
+    private Long price;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
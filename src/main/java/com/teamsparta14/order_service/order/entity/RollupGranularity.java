@@ -0,0 +1,21 @@
+package com.teamsparta14.order_service.order.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+//매출 집계 단위
+public enum RollupGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    //주문 시각이 속한 집계 구간의 시작 시각
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,40 @@
+package com.teamsparta14.order_service.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//가게별 시간/일 단위 상품 판매 수량 집계 (인기 상품 조회용)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "p_store_product_sales_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_store_product_sales_rollup_bucket",
+                columnNames = {"store_id", "granularity", "bucket_start", "product_id"}))
+public class StoreProductSalesRollup {
+
+    @Id
+    @UuidGenerator
+    private UUID id;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "granularity", nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+}
@@ -0,0 +1,46 @@
+package com.teamsparta14.order_service.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//가게별 시간/일 단위 매출 집계 (주문 시각 기준 구간)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "p_store_sales_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_store_sales_rollup_bucket",
+                columnNames = {"store_id", "granularity", "bucket_start"}))
+public class StoreSalesRollup {
+
+    @Id
+    @UuidGenerator
+    private UUID id;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "granularity", nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    //결제 완료된 주문 수
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    //결제 완료 금액 합계 (Payment.amount)
+    @Column(name = "revenue", nullable = false)
+    private Long revenue;
+
+    //취소/결제 실패/만료된 주문 수
+    @Column(name = "cancel_count", nullable = false)
+    private Long cancelCount;
+}
@@ -0,0 +1,47 @@
+package com.teamsparta14.order_service.order.repository;
+
+import com.teamsparta14.order_service.order.entity.OrderArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+//p_order -> p_order_archive 이동 (주문 상품, 결제와 같은 트랜잭션에서 실행)
+@Repository
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, UUID> {
+
+    //보관 대상 주문 (오래된 주문 + 삭제된 지 오래된 주문), 결제 대기 중인 주문은 제외
+    //다른 인스턴스가 잡고 있는 행은 건너뜀
+    @Query(value = "SELECT o.order_id FROM p_order o " +
+            "LEFT JOIN p_payment p ON p.payment_id = o.payment_id " +
+            "WHERE (o.created_at < :createdBefore OR (o.is_deleted = true AND o.deleted_at < :deletedBefore)) " +
+            "AND (p.payment_status IS NULL OR p.payment_status <> 'PENDING') " +
+            "ORDER BY o.created_at, o.order_id " +
+            "LIMIT :limit FOR UPDATE OF o SKIP LOCKED", nativeQuery = true)
+    List<UUID> findArchivableOrderIds(@Param("createdBefore") LocalDateTime createdBefore,
+                                      @Param("deletedBefore") LocalDateTime deletedBefore,
+                                      @Param("limit") int limit);
+
+    @Query(value = "SELECT o.payment_id FROM p_order o WHERE o.order_id IN (:orderIds) AND o.payment_id IS NOT NULL",
+            nativeQuery = true)
+    List<UUID> findPaymentIdsByOrderIds(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO p_order_archive (order_id, user_name, store_id, dest_id, order_comment, payment_id, order_type, " +
+            "created_at, created_by, modified_at, modified_by, deleted_at, deleted_by, is_deleted, archived_at) " +
+            "SELECT o.order_id, o.user_name, o.store_id, o.dest_id, o.order_comment, o.payment_id, o.order_type, " +
+            "o.created_at, o.created_by, o.modified_at, o.modified_by, o.deleted_at, o.deleted_by, o.is_deleted, now() " +
+            "FROM p_order o WHERE o.order_id IN (:orderIds) " +
+            "ON CONFLICT (order_id) DO NOTHING", nativeQuery = true)
+    int copyOrders(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM p_order WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteOrders(@Param("orderIds") Collection<UUID> orderIds);
+}
@@ -1,10 +1,15 @@
 package com.teamsparta14.order_service.order.repository;
 
+import com.teamsparta14.order_service.order.dto.OrderProductLineDto;
+import com.teamsparta14.order_service.order.dto.OrderSalesFactDto;
 import com.teamsparta14.order_service.order.dto.OrderSearchDto;
+import com.teamsparta14.order_service.order.dto.OrderedQuantityDto;
 import com.teamsparta14.order_service.order.entity.MyOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,4 +20,16 @@ public interface OrderCustomRepository {
     Page<MyOrder> searchByStoreId(String userName, Pageable pageable, String storeId);
 
     Optional<MyOrder> searchOrderById(UUID requestId);
+
+    //결제 건들에 묶인 주문 상품 수량 합계 (상품, 주문 시각별)
+    List<OrderedQuantityDto> sumProductQuantityByPaymentIds(Collection<UUID> paymentIds);
+
+    //결제 건들에 묶인 주문의 매출 집계용 정보
+    List<OrderSalesFactDto> findSalesFactsByPaymentIds(Collection<UUID> paymentIds);
+
+    //기간 내 주문을 (createdAt, orderId) 순으로 limit 건씩 조회 (after 값은 직전 조회의 마지막 주문)
+    List<OrderSalesFactDto> findSalesFactsCreatedBetween(LocalDateTime from, LocalDateTime to,
+                                                         LocalDateTime afterCreatedAt, UUID afterOrderId, int limit);
+
+    List<OrderProductLineDto> findProductLinesByOrderIds(Collection<UUID> orderIds);
 }
@@ -0,0 +1,29 @@
+package com.teamsparta14.order_service.order.repository;
+
+import com.teamsparta14.order_service.order.entity.OrderProductArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrderProductArchiveRepository extends JpaRepository<OrderProductArchive, UUID> {
+
+    List<OrderProductArchive> findByOrderId(UUID orderId);
+
+    @Modifying
+    @Query(value = "INSERT INTO p_order_product_archive (order_product_id, order_id, product_id, quantity, price, archived_at) " +
+            "SELECT op.order_product_id, op.order_id, op.product_id, op.quantity, op.price, now() " +
+            "FROM p_order_product op WHERE op.order_id IN (:orderIds) " +
+            "ON CONFLICT (order_product_id) DO NOTHING", nativeQuery = true)
+    int copyByOrderIds(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM p_order_product WHERE order_id IN (:orderIds)", nativeQuery = true)
+    int deleteByOrderIds(@Param("orderIds") Collection<UUID> orderIds);
+}
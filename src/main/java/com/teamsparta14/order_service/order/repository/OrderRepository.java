@@ -3,10 +3,13 @@ package com.teamsparta14.order_service.order.repository;
 
 import com.teamsparta14.order_service.order.entity.MyOrder;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +20,12 @@ public interface OrderRepository extends JpaRepository<MyOrder, UUID>, OrderCust
 
     @Query("SELECT o FROM MyOrder o JOIN FETCH o.payment JOIN FETCH o.orderProducts WHERE o.orderId = :orderId")
     Optional<MyOrder> findOrderWithProductsWithPayment(@Param("orderId") UUID orderId);
+
+    //결제 만료 등으로 주문 일괄 취소
+    @Modifying
+    @Query("UPDATE MyOrder o SET o.isDeleted = true, o.deletedAt = :now, o.deletedBy = :deletedBy, o.version = o.version + 1 " +
+            "WHERE o.payment IN (SELECT p FROM Payment p WHERE p.paymentId IN :paymentIds)")
+    int cancelByPaymentIds(@Param("paymentIds") Collection<UUID> paymentIds,
+                           @Param("now") LocalDateTime now,
+                           @Param("deletedBy") String deletedBy);
 }
\ No newline at end of file
@@ -2,19 +2,27 @@ package com.teamsparta14.order_service.order.repository;
 
 
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 
+import com.teamsparta14.order_service.order.dto.OrderProductLineDto;
+import com.teamsparta14.order_service.order.dto.OrderSalesFactDto;
 import com.teamsparta14.order_service.order.dto.OrderSearchDto;
+import com.teamsparta14.order_service.order.dto.OrderedQuantityDto;
 import com.teamsparta14.order_service.order.entity.MyOrder;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,21 +47,23 @@ public class OrderRepositoryImpl implements OrderCustomRepository {
                 .selectFrom(myOrder)
                 .where(
                         myOrder.userName.eq(userName),
-                        myOrder.deletedAt.isNull()
+                        myOrder.isDeleted.isFalse()
                 )
                 .orderBy(orderSpecifiers)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPQLQuery<MyOrder> count = jpaQueryFactory
-                .selectFrom(myOrder)
-                .from(myOrder);
-
-
-
+        //목록과 같은 조건으로 셈 (조건 없이 p_order 전체 파티션을 훑지 않도록)
+        JPAQuery<Long> count = jpaQueryFactory
+                .select(myOrder.count())
+                .from(myOrder)
+                .where(
+                        myOrder.userName.eq(userName),
+                        myOrder.isDeleted.isFalse()
+                );
 
-        return PageableExecutionUtils.getPage(query, pageable, count::fetchCount);
+        return PageableExecutionUtils.getPage(query, pageable, count::fetchOne);
     }
 
     @Override
@@ -64,21 +74,22 @@ public class OrderRepositoryImpl implements OrderCustomRepository {
                 .selectFrom(myOrder)
                 .where(
                         myOrder.storeId.eq(UUID.fromString(storeId)),
-                        myOrder.deletedAt.isNull()
+                        myOrder.isDeleted.isFalse()
                 )
                 .orderBy(orderSpecifiers)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPQLQuery<MyOrder> count = jpaQueryFactory
-                .selectFrom(myOrder)
-                .from(myOrder);
-
-
-
+        JPAQuery<Long> count = jpaQueryFactory
+                .select(myOrder.count())
+                .from(myOrder)
+                .where(
+                        myOrder.storeId.eq(UUID.fromString(storeId)),
+                        myOrder.isDeleted.isFalse()
+                );
 
-        return PageableExecutionUtils.getPage(query, pageable, count::fetchCount);
+        return PageableExecutionUtils.getPage(query, pageable, count::fetchOne);
     }
 
     @Override
@@ -91,6 +102,79 @@ public class OrderRepositoryImpl implements OrderCustomRepository {
                 .fetchOne());
     }
 
+    @Override
+    public List<OrderedQuantityDto> sumProductQuantityByPaymentIds(Collection<UUID> paymentIds) {
+
+        return jpaQueryFactory
+                .select(Projections.constructor(OrderedQuantityDto.class,
+                        orderProduct.productId,
+                        myOrder.createdAt,
+                        orderProduct.quantity.sum()))
+                .from(orderProduct)
+                .join(orderProduct.order, myOrder)
+                .where(myOrder.payment.paymentId.in(paymentIds))
+                .groupBy(orderProduct.productId, myOrder.createdAt)
+                .fetch();
+    }
+
+    @Override
+    public List<OrderSalesFactDto> findSalesFactsByPaymentIds(Collection<UUID> paymentIds) {
+
+        return jpaQueryFactory
+                .select(salesFactProjection())
+                .from(myOrder)
+                .join(myOrder.payment, payment)
+                .where(payment.paymentId.in(paymentIds))
+                .fetch();
+    }
+
+    @Override
+    public List<OrderSalesFactDto> findSalesFactsCreatedBetween(LocalDateTime from, LocalDateTime to,
+                                                                LocalDateTime afterCreatedAt, UUID afterOrderId, int limit) {
+
+        BooleanBuilder where = new BooleanBuilder()
+                .and(myOrder.createdAt.goe(from))
+                .and(myOrder.createdAt.lt(to));
+
+        if (afterCreatedAt != null) {
+            where.and(myOrder.createdAt.gt(afterCreatedAt)
+                    .or(myOrder.createdAt.eq(afterCreatedAt).and(myOrder.orderId.gt(afterOrderId))));
+        }
+
+        return jpaQueryFactory
+                .select(salesFactProjection())
+                .from(myOrder)
+                .join(myOrder.payment, payment)
+                .where(where)
+                .orderBy(myOrder.createdAt.asc(), myOrder.orderId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<OrderProductLineDto> findProductLinesByOrderIds(Collection<UUID> orderIds) {
+
+        return jpaQueryFactory
+                .select(Projections.constructor(OrderProductLineDto.class,
+                        orderProduct.order.orderId,
+                        orderProduct.productId,
+                        orderProduct.quantity))
+                .from(orderProduct)
+                .where(orderProduct.order.orderId.in(orderIds))
+                .fetch();
+    }
+
+    private ConstructorExpression<OrderSalesFactDto> salesFactProjection() {
+
+        return Projections.constructor(OrderSalesFactDto.class,
+                myOrder.orderId,
+                myOrder.storeId,
+                myOrder.createdAt,
+                payment.amount,
+                payment.paymentStatus,
+                myOrder.isDeleted);
+    }
+
     public Page<MyOrder> searchAllOrders(Pageable pageable){
 
         OrderSpecifier<?>[] orderSpecifiers = buildOrderSpecifiers(pageable);
@@ -103,14 +187,19 @@ public class OrderRepositoryImpl implements OrderCustomRepository {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        JPQLQuery<MyOrder> count = jpaQueryFactory
-                .selectFrom(myOrder)
+        JPAQuery<Long> count = jpaQueryFactory
+                .select(myOrder.count())
                 .from(myOrder);
-        return PageableExecutionUtils.getPage(query, pageable, count::fetchCount);
+        return PageableExecutionUtils.getPage(query, pageable, count::fetchOne);
     }
 
+    //정렬 조건이 없으면 최신순 (p_order 월별 파티션을 created_at 인덱스 순서대로 이어 읽을 수 있도록)
     private OrderSpecifier<?>[] buildOrderSpecifiers(Pageable pageable) {
 
+        if (pageable.getSort().isUnsorted()) {
+            return new OrderSpecifier<?>[]{new OrderSpecifier<>(Order.DESC, myOrder.createdAt)};
+        }
+
         return pageable.getSort().stream()
                 .map(param -> {
                     String property = param.getProperty();
@@ -21,8 +21,11 @@ import java.util.UUID;
 
 
 @Service
+@RequiredArgsConstructor
 public class ProductClient {
 
+    private final RestTemplate restTemplate;
+
 
     @Value("${SERVER_URL}")
     private String SERVER_URL;
@@ -40,7 +43,6 @@ public class ProductClient {
         Map<String, List<UUID>> requestBody = new HashMap<>();
         requestBody.put("requestIdList", productIds);
 
-        RestTemplate restTemplate = new RestTemplate();
         HttpHeaders headers = new HttpHeaders();
         headers.add("access", token);
 
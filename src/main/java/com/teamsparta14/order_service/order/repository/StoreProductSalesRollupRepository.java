@@ -0,0 +1,49 @@
+package com.teamsparta14.order_service.order.repository;
+
+import com.teamsparta14.order_service.order.dto.ProductSalesDto;
+import com.teamsparta14.order_service.order.entity.RollupGranularity;
+import com.teamsparta14.order_service.order.entity.StoreProductSalesRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StoreProductSalesRollupRepository extends JpaRepository<StoreProductSalesRollup, UUID> {
+
+    //집계 구간의 상품 판매 수량에 증감분 더하기 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO p_store_product_sales_rollup (id, store_id, granularity, bucket_start, product_id, quantity) " +
+            "VALUES (gen_random_uuid(), :storeId, :granularity, :bucketStart, :productId, :quantity) " +
+            "ON CONFLICT (store_id, granularity, bucket_start, product_id) DO UPDATE SET " +
+            "quantity = p_store_product_sales_rollup.quantity + EXCLUDED.quantity", nativeQuery = true)
+    int upsert(@Param("storeId") UUID storeId,
+               @Param("granularity") String granularity,
+               @Param("bucketStart") LocalDateTime bucketStart,
+               @Param("productId") UUID productId,
+               @Param("quantity") long quantity);
+
+    //기간 내 판매 수량 상위 상품
+    @Query("SELECT new com.teamsparta14.order_service.order.dto.ProductSalesDto(r.productId, SUM(r.quantity)) " +
+            "FROM StoreProductSalesRollup r " +
+            "WHERE r.storeId = :storeId AND r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.productId " +
+            "HAVING SUM(r.quantity) > 0 " +
+            "ORDER BY SUM(r.quantity) DESC")
+    List<ProductSalesDto> findTopProducts(@Param("storeId") UUID storeId,
+                                          @Param("granularity") RollupGranularity granularity,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          Pageable pageable);
+
+    //재집계 전 해당 기간 집계 삭제
+    @Modifying
+    @Query("DELETE FROM StoreProductSalesRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteBucketsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,51 @@
+package com.teamsparta14.order_service.order.repository;
+
+import com.teamsparta14.order_service.order.dto.StoreSalesBucketDto;
+import com.teamsparta14.order_service.order.entity.RollupGranularity;
+import com.teamsparta14.order_service.order.entity.StoreSalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StoreSalesRollupRepository extends JpaRepository<StoreSalesRollup, UUID> {
+
+    //집계 구간에 증감분 더하기 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO p_store_sales_rollup (id, store_id, granularity, bucket_start, order_count, revenue, cancel_count) " +
+            "VALUES (gen_random_uuid(), :storeId, :granularity, :bucketStart, :orderCount, :revenue, :cancelCount) " +
+            "ON CONFLICT (store_id, granularity, bucket_start) DO UPDATE SET " +
+            "order_count = p_store_sales_rollup.order_count + EXCLUDED.order_count, " +
+            "revenue = p_store_sales_rollup.revenue + EXCLUDED.revenue, " +
+            "cancel_count = p_store_sales_rollup.cancel_count + EXCLUDED.cancel_count", nativeQuery = true)
+    int upsert(@Param("storeId") UUID storeId,
+               @Param("granularity") String granularity,
+               @Param("bucketStart") LocalDateTime bucketStart,
+               @Param("orderCount") long orderCount,
+               @Param("revenue") long revenue,
+               @Param("cancelCount") long cancelCount);
+
+    @Query("SELECT new com.teamsparta14.order_service.order.dto.StoreSalesBucketDto(r.bucketStart, r.orderCount, r.revenue, r.cancelCount) " +
+            "FROM StoreSalesRollup r " +
+            "WHERE r.storeId = :storeId AND r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "ORDER BY r.bucketStart")
+    List<StoreSalesBucketDto> findBuckets(@Param("storeId") UUID storeId,
+                                          @Param("granularity") RollupGranularity granularity,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    //재집계 중복 실행 방지 (트랜잭션이 끝나면 자동 해제)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('p_store_sales_rollup'))", nativeQuery = true)
+    boolean tryLockForRebuild();
+
+    //재집계 전 해당 기간 집계 삭제
+    @Modifying
+    @Query("DELETE FROM StoreSalesRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteBucketsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamsparta14.order_service.global.response.StoreClientResponse;
 import com.teamsparta14.order_service.store.dto.StoreResponseDto;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -18,8 +19,11 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.net.URI;
 
 @Repository
+@RequiredArgsConstructor
 public class StoresClient {
 
+    private final RestTemplate restTemplate;
+
     @Value("${SERVER_URL}")
     private String SERVER_URL;
 
@@ -33,8 +37,6 @@ public class StoresClient {
                 .toUri();
 
 
-        RestTemplate restTemplate = new RestTemplate();
-
         HttpHeaders headers = new HttpHeaders();
         headers.add("access", token);
 
@@ -1,25 +1,47 @@
 package com.teamsparta14.order_service.order.service;
 
 
+import com.teamsparta14.order_service.domain.SoftDeleteFilter;
 import com.teamsparta14.order_service.order.dto.*;
 import com.teamsparta14.order_service.order.entity.MyOrder;
+import com.teamsparta14.order_service.order.entity.OrderArchive;
 import com.teamsparta14.order_service.order.entity.OrderProduct;
+import com.teamsparta14.order_service.order.entity.RollupGranularity;
+import com.teamsparta14.order_service.order.repository.OrderArchiveRepository;
+import com.teamsparta14.order_service.order.repository.OrderProductArchiveRepository;
 import com.teamsparta14.order_service.order.repository.OrderRepository;
 import com.teamsparta14.order_service.order.repository.ProductClient;
 import com.teamsparta14.order_service.order.repository.StoresClient;
+import com.teamsparta14.order_service.payment.entity.Payment;
+import com.teamsparta14.order_service.payment.entity.PaymentArchive;
+import com.teamsparta14.order_service.payment.entity.PaymentStatus;
+import com.teamsparta14.order_service.payment.repository.PaymentArchiveRepository;
 import com.teamsparta14.order_service.product.dto.ProductResponseDto;
+import com.teamsparta14.order_service.product.repository.ProductRepository;
+import com.teamsparta14.order_service.product.service.ProductPopularityService;
+import com.teamsparta14.order_service.store.dto.StoreResponseDto;
+import com.teamsparta14.order_service.user.dto.CustomUserDetails;
 import com.teamsparta14.order_service.user.jwt.JWTUtil;
-import jakarta.transaction.Transactional;
+import com.teamsparta14.order_service.user.service.AddressBookCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -35,6 +57,18 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final StoresClient storesClient;
     private final JWTUtil jwtUtil;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AddressBookCache addressBookCache;
+    //스프링 부트 기본 실행기 (TaskExecutor 빈이 더 생겨도 이 빈을 씀, lombok.config에서 @Qualifier를 생성자로 복사)
+    @Qualifier("applicationTaskExecutor")
+    private final TaskExecutor applicationTaskExecutor;
+    private final SalesRollupService salesRollupService;
+    private final ProductPopularityService productPopularityService;
+    private final SoftDeleteFilter softDeleteFilter;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderProductArchiveRepository orderProductArchiveRepository;
+    private final PaymentArchiveRepository paymentArchiveRepository;
 
 
     public OrderResponse createOrder(OrderCreateDto createDto,
@@ -42,15 +76,32 @@ public class OrderService {
 
         String userName = jwtUtil.getUsername(token);
 
-        //dto 내부 storeId를 통해 store가 존재하는지 확인 구현 예정
-        Optional.ofNullable(storesClient.searchStore(createDto.getStoreId().toString(), token))
-                .orElseThrow(() -> new IllegalArgumentException("store Not found"));
+        validateQuantities(createDto.getOrderProductRequests());
+
+        //배송지 확인과 가게 조회는 상품 조회와 동시에 실행 (검증이 늘어도 응답 시간은 가장 느린 호출 하나만큼)
+        UUID destId = createDto.getDestId();
+        CompletableFuture<Boolean> destinationCheck = destId == null
+                ? CompletableFuture.completedFuture(true)
+                : CompletableFuture.supplyAsync(() -> addressBookCache.isOwnedBy(userName, destId), applicationTaskExecutor);
+
+        CompletableFuture<StoreResponseDto> storeLookup = CompletableFuture.supplyAsync(
+                () -> storesClient.searchStore(createDto.getStoreId().toString(), token), applicationTaskExecutor);
 
         List<OrderProductRequest> orderProductRequests = createDto.getOrderProductRequests();
 
         List<UUID> productIds = orderProductRequests.stream().map(OrderProductRequest::getProductId).toList();
 
         List<ProductResponseDto> productResponses = productClient.searchProductList(productIds, token);
+
+        //배송지가 주문자 본인의 것인지 확인
+        if (!join(destinationCheck)) {
+            throw new IllegalArgumentException("address Not found");
+        }
+
+        //dto 내부 storeId를 통해 store가 존재하는지 확인
+        Optional.ofNullable(join(storeLookup))
+                .orElseThrow(() -> new IllegalArgumentException("store Not found"));
+
         requestCompareToClientProductList(orderProductRequests, productResponses);
 
         MyOrder order = createDto.from(userName);
@@ -65,7 +116,83 @@ public class OrderService {
         }
 
         order.createPayment();
-        return OrderResponse.from(orderRepository.save(order));
+
+        //외부 호출은 트랜잭션 밖에서 끝내고, 재고 차감과 주문 저장만 한 트랜잭션으로 묶음
+        return transactionTemplate.execute(status -> {
+            reserveStock(orderProductRequests);
+            return OrderResponse.from(orderRepository.save(order));
+        });
+    }
+
+    //비동기 조회 결과 대기, 실패 원인은 감싸지 않고 그대로 던짐
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    //0 이하 수량은 재고 차감이 아니라 증가가 되므로 거부
+    private void validateQuantities(List<OrderProductRequest> orderProductRequests) {
+
+        if (orderProductRequests == null || orderProductRequests.isEmpty()) {
+            throw new IllegalArgumentException("Order products are required");
+        }
+        for (OrderProductRequest request : orderProductRequests) {
+            if (request.getQuantity() == null || request.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive: " + request.getProductId());
+            }
+        }
+    }
+
+    //주문 수량만큼 재고 차감 (한 상품이라도 부족하면 전체 롤백)
+    private void reserveStock(List<OrderProductRequest> orderProductRequests) {
+
+        Map<UUID, Long> deltas = new HashMap<>();
+        for (OrderProductRequest request : orderProductRequests) {
+            deltas.merge(request.getProductId(), -request.getQuantity(), Long::sum);
+        }
+
+        if (productRepository.adjustStock(deltas) != deltas.size()) {
+            throw new IllegalArgumentException("Not enough product in stock");
+        }
+
+        productPopularityService.recordOrderedQuantities(negate(deltas));
+    }
+
+    //결제 실패/주문 취소 시 재고 복구 (호출하는 쪽 트랜잭션에서 실행)
+    public void releaseStock(Collection<UUID> paymentIds) {
+
+        //취소된(삭제된) 주문의 수량도 더해야 하므로 soft-delete 필터를 끄고 조회
+        List<OrderedQuantityDto> orderedQuantities = softDeleteFilter.includingDeleted(
+                () -> orderRepository.sumProductQuantityByPaymentIds(paymentIds));
+
+        if (orderedQuantities.isEmpty()) {
+            return;
+        }
+
+        //재고는 수량 그대로, 인기 점수는 주문 이후 감쇠된 만큼만 뺌
+        Map<UUID, Long> quantities = new HashMap<>();
+        Map<UUID, Double> scoreDeltas = new HashMap<>();
+        for (OrderedQuantityDto ordered : orderedQuantities) {
+            quantities.merge(ordered.getProductId(), ordered.getQuantity(), Long::sum);
+            scoreDeltas.merge(ordered.getProductId(),
+                    -ordered.getQuantity() * productPopularityService.remainingWeight(ordered.getOrderedAt()), Double::sum);
+        }
+
+        productRepository.adjustStock(quantities);
+        productPopularityService.recordScoreDeltas(scoreDeltas);
+    }
+
+    //재고 증감분 -> 주문 수량 증감분
+    private Map<UUID, Long> negate(Map<UUID, Long> deltas) {
+        Map<UUID, Long> negated = new HashMap<>();
+        deltas.forEach((productId, delta) -> negated.put(productId, -delta));
+        return negated;
     }
 
     private void requestCompareToClientProductList(List<OrderProductRequest> orderProductRequests,
@@ -122,7 +249,18 @@ public class OrderService {
             throw new IllegalArgumentException("The order cancellation time has expired.");
         }
 
-        order.setIsDeleted(true);
+        order.softDelete(userName);
+
+        //결제 전 취소는 결제 실패로 닫고 재고 복구
+        Payment payment = order.getPayment();
+        if (payment.getPaymentStatus().canTransitionTo(PaymentStatus.FAILED)) {
+            payment.setPaymentStatus(PaymentStatus.FAILED);
+            releaseStock(List.of(payment.getPaymentId()));
+            salesRollupService.recordCancelled(List.of(payment.getPaymentId()), false);
+        } else if (payment.getPaymentStatus() == PaymentStatus.SUCCESS) {
+            //결제 완료 후 취소는 매출에서 빼고 취소 건수에 더함
+            salesRollupService.recordCancelled(List.of(payment.getPaymentId()), true);
+        }
 
         return OrderResponse.from(order);
     }
@@ -131,10 +269,14 @@ public class OrderService {
 
         String userName = jwtUtil.getUsername(token);
 
-        MyOrder order = orderRepository.findOrderWithProductsWithPayment(orderId).orElseThrow(
-                () -> new IllegalArgumentException("Order Not Found")
-        );
+        //취소된 주문도 조회할 수 있도록 soft-delete 필터를 끄고 조회, 없으면 보관 테이블에서 찾음
+        Optional<MyOrder> found = softDeleteFilter.includingDeleted(
+                () -> orderRepository.findOrderWithProductsWithPayment(orderId));
+        if (found.isEmpty()) {
+            return getArchivedOrderById(orderId, userName);
+        }
 
+        MyOrder order = found.get();
         if (!order.isOwner(userName)) {
             throw new IllegalArgumentException("Not Own Order");
         }
@@ -142,6 +284,24 @@ public class OrderService {
         return OrderResponse.from(order);
     }
 
+    private OrderResponse getArchivedOrderById(UUID orderId, String userName) {
+
+        OrderArchive order = orderArchiveRepository.findById(orderId).orElseThrow(
+                () -> new IllegalArgumentException("Order Not Found")
+        );
+
+        if (!order.getUserName().equals(userName)) {
+            throw new IllegalArgumentException("Not Own Order");
+        }
+
+        PaymentArchive payment = order.getPaymentId() != null
+                ? paymentArchiveRepository.findById(order.getPaymentId()).orElse(null)
+                : null;
+
+        return OrderResponse.from(order, orderProductArchiveRepository.findByOrderId(orderId), payment);
+    }
+
+    @Transactional(readOnly = true)
     public Page<OrderResponse> searchOrders(String token, int page, int limit,
                                             Boolean isAsc, String orderBy) {
 
@@ -154,11 +314,15 @@ public class OrderService {
         return orderRepository.searchByUserName(userName, pageable).map(OrderResponse::from);
     }
 
+    //주문 상품 목록을 통째로 교체하는 요청이라 충돌 시 재시도
     @Transactional
+    @Retryable(retryFor = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 50, multiplier = 2))
     public OrderResponse updateOrder(OrderUpdateRequest orderUpdateRequest, String token) {
 
         String userName = jwtUtil.getUsername(token);
 
+        validateQuantities(orderUpdateRequest.getOrderProductRequests());
+
         MyOrder order = orderRepository.findById(orderUpdateRequest.getOrderId()).orElseThrow(
                 () -> new IllegalArgumentException("Order Not Found")
         );
@@ -167,6 +331,36 @@ public class OrderService {
             throw new IllegalArgumentException("Not Own Order");
         }
 
+        //재고가 잡혀 있는 결제 대기 상태에서만 수정 가능
+        if (order.getPayment().getPaymentStatus() != PaymentStatus.PENDING) {
+            throw new IllegalArgumentException("Order can only be updated before payment");
+        }
+
+        //기존 수량은 돌려놓고 새 수량만큼 차감
+        Map<UUID, Long> deltas = new HashMap<>();
+        for (OrderProduct orderProduct : order.getOrderProducts()) {
+            deltas.merge(orderProduct.getProductId(), orderProduct.getQuantity(), Long::sum);
+        }
+        for (OrderProductRequest orderProductRequest : orderUpdateRequest.getOrderProductRequests()) {
+            deltas.merge(orderProductRequest.getProductId(), -orderProductRequest.getQuantity(), Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+
+        if (!deltas.isEmpty() && productRepository.adjustStock(deltas) != deltas.size()) {
+            throw new IllegalArgumentException("Not enough product in stock");
+        }
+
+        //인기 점수: 기존 수량은 주문 이후 감쇠된 만큼만 빼고 새 수량을 더함
+        double remainingWeight = productPopularityService.remainingWeight(order.getCreatedAt());
+        Map<UUID, Double> scoreDeltas = new HashMap<>();
+        for (OrderProduct orderProduct : order.getOrderProducts()) {
+            scoreDeltas.merge(orderProduct.getProductId(), -orderProduct.getQuantity() * remainingWeight, Double::sum);
+        }
+        for (OrderProductRequest orderProductRequest : orderUpdateRequest.getOrderProductRequests()) {
+            scoreDeltas.merge(orderProductRequest.getProductId(), orderProductRequest.getQuantity().doubleValue(), Double::sum);
+        }
+        productPopularityService.recordScoreDeltas(scoreDeltas);
+
         List<OrderProduct> updateList = new ArrayList<>();
 
         for (OrderProductRequest orderProductRequest : orderUpdateRequest.getOrderProductRequests()) {
@@ -178,11 +372,20 @@ public class OrderService {
                     .build());
         }
 
+        //결제 금액도 새 주문 상품 기준으로 다시 계산 (매출 집계가 이 금액을 읽음)
         order.updateOrderProductList(updateList);
 
         return OrderResponse.from(order);
     }
 
+    //가게 매출 조회 (집계 테이블에서 읽음)
+    public StoreSalesResponseDto getStoreSales(UUID storeId, RollupGranularity granularity,
+                                               LocalDateTime from, LocalDateTime to, int top,
+                                               CustomUserDetails userDetails) {
+
+        return salesRollupService.getStoreSales(storeId, granularity, from, to, top, userDetails);
+    }
+
     public Page<OrderResponse> searchOrdersByStoreId(String storeId ,String token, int page, int limit, Boolean isAsc, String orderBy) {
 
         String userName = jwtUtil.getUsername(token);
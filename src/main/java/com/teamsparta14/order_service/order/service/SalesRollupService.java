@@ -0,0 +1,262 @@
+package com.teamsparta14.order_service.order.service;
+
+import com.teamsparta14.order_service.domain.SoftDeleteFilter;
+import com.teamsparta14.order_service.global.enums.Role;
+import com.teamsparta14.order_service.order.dto.OrderProductLineDto;
+import com.teamsparta14.order_service.order.dto.OrderSalesFactDto;
+import com.teamsparta14.order_service.order.dto.StoreSalesResponseDto;
+import com.teamsparta14.order_service.order.entity.RollupGranularity;
+import com.teamsparta14.order_service.order.repository.OrderRepository;
+import com.teamsparta14.order_service.order.repository.StoreProductSalesRollupRepository;
+import com.teamsparta14.order_service.order.repository.StoreSalesRollupRepository;
+import com.teamsparta14.order_service.store.entity.Store;
+import com.teamsparta14.order_service.store.repository.StoreRepository;
+import com.teamsparta14.order_service.user.dto.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//가게별 매출 집계 (p_store_sales_rollup, p_store_product_sales_rollup)
+//결제 완료/취소 시점에 증감분만 더하고, 매일 전날 구간을 원본 주문에서 다시 집계해 어긋난 값을 바로잡음
+//취소 건수는 삭제된 주문에서 나오므로 원본 주문 조회는 모두 soft-delete 필터를 끄고 실행
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    private static final int MAX_TOP_PRODUCTS = 50;
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private final OrderRepository orderRepository;
+    private final StoreSalesRollupRepository storeSalesRollupRepository;
+    private final StoreProductSalesRollupRepository storeProductSalesRollupRepository;
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SoftDeleteFilter softDeleteFilter;
+
+    @Value("${sales.rollup.rebuild-chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${sales.rollup.rebuild-days:1}")
+    private int rebuildDays;
+
+    //결제 완료 반영 (호출하는 쪽 트랜잭션에서 실행)
+    public void recordPaid(Collection<UUID> paymentIds) {
+        apply(paymentIds, 1, 0);
+    }
+
+    //주문 취소/결제 실패/만료 반영, 결제 완료 후 취소된 주문이면 매출에서도 뺌 (호출하는 쪽 트랜잭션에서 실행)
+    public void recordCancelled(Collection<UUID> paymentIds, boolean wasPaid) {
+        apply(paymentIds, wasPaid ? -1 : 0, 1);
+    }
+
+    public StoreSalesResponseDto getStoreSales(UUID storeId, RollupGranularity granularity,
+                                               LocalDateTime from, LocalDateTime to, int top,
+                                               CustomUserDetails userDetails) {
+
+        Store store = storeRepository.findById(storeId)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new IllegalArgumentException("store Not found"));
+
+        if (userDetails.getRole() != Role.ROLE_MASTER && !userDetails.getUsername().equals(store.getCreatedBy())) {
+            throw new AccessDeniedException("본인 가게의 매출만 조회할 수 있습니다.");
+        }
+
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+
+        return StoreSalesResponseDto.of(storeId, granularity,
+                storeSalesRollupRepository.findBuckets(storeId, granularity, from, to),
+                storeProductSalesRollupRepository.findTopProducts(storeId, granularity, from, to,
+                        PageRequest.of(0, Math.min(Math.max(top, 1), MAX_TOP_PRODUCTS))));
+    }
+
+    @Scheduled(cron = "${sales.rollup.rebuild-cron:0 30 4 * * *}")
+    public void rebuildRecentDays() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        rebuild(today.minusDays(rebuildDays), today);
+    }
+
+    //기간 내 주문을 chunkSize 건씩 읽어 다시 집계 (일 단위 구간으로 맞춤)
+    //락 선점, 원본 조회, 삭제, 다시 쓰기를 REPEATABLE READ 트랜잭션 하나에서 실행
+    //조회 이후 커밋된 결제 완료/취소의 증감분이 같은 집계 행을 건드렸으면 직렬화 오류로 되돌리고 다시 시도
+    //(되돌리지 않으면 그 증감분이 삭제 후 다시 쓰기로 사라짐)
+    public void rebuild(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = RollupGranularity.DAY.bucketOf(from);
+        LocalDateTime end = RollupGranularity.DAY.bucketOf(to);
+        if (end.isBefore(to)) {
+            end = end.plusDays(1);
+        }
+
+        TransactionTemplate rebuildTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                LocalDateTime rangeStart = start;
+                LocalDateTime rangeEnd = end;
+                Integer read = rebuildTransaction.execute(status -> rebuildInTransaction(rangeStart, rangeEnd));
+
+                if (read != null) {
+                    log.info("매출 집계 재생성 {} ~ {} (주문 {}건)", rangeStart, rangeEnd, read);
+                }
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_REBUILD_ATTEMPTS) {
+                    log.warn("매출 집계 재생성 {} ~ {} 실패, 다음 재집계에서 다시 시도", start, end, e);
+                    return;
+                }
+                log.info("매출 집계 재생성 중 결제 변경과 충돌, 다시 시도 ({}/{})", attempt, MAX_REBUILD_ATTEMPTS);
+            }
+        }
+    }
+
+    //다른 인스턴스가 재집계 중이면 null (두 번 더해지지 않도록), 아니면 읽은 주문 수
+    private Integer rebuildInTransaction(LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        if (!storeSalesRollupRepository.tryLockForRebuild()) {
+            return null;
+        }
+
+        RollupDelta delta = new RollupDelta();
+        LocalDateTime afterCreatedAt = null;
+        UUID afterOrderId = null;
+        int read = 0;
+
+        while (true) {
+            LocalDateTime cursorCreatedAt = afterCreatedAt;
+            UUID cursorOrderId = afterOrderId;
+            List<OrderSalesFactDto> chunk = softDeleteFilter.includingDeleted(() -> {
+                List<OrderSalesFactDto> facts = orderRepository.findSalesFactsCreatedBetween(rangeStart, rangeEnd, cursorCreatedAt, cursorOrderId, chunkSize);
+
+                List<OrderSalesFactDto> sold = facts.stream().filter(OrderSalesFactDto::isSold).toList();
+                for (OrderSalesFactDto fact : facts) {
+                    if (fact.isSold()) {
+                        delta.addOrder(fact, 1, fact.getAmount(), 0);
+                    } else if (fact.isCancelled()) {
+                        delta.addOrder(fact, 0, 0, 1);
+                    }
+                }
+                addProductLines(delta, sold, 1);
+                return facts;
+            });
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            OrderSalesFactDto last = chunk.get(chunk.size() - 1);
+            afterCreatedAt = last.getCreatedAt();
+            afterOrderId = last.getOrderId();
+            read += chunk.size();
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        storeSalesRollupRepository.deleteBucketsBetween(rangeStart, rangeEnd);
+        storeProductSalesRollupRepository.deleteBucketsBetween(rangeStart, rangeEnd);
+        flush(delta);
+        return read;
+    }
+
+    private void apply(Collection<UUID> paymentIds, int saleSign, int cancelCount) {
+        if (paymentIds.isEmpty()) {
+            return;
+        }
+
+        RollupDelta delta = new RollupDelta();
+        softDeleteFilter.includingDeleted(() -> {
+            List<OrderSalesFactDto> facts = orderRepository.findSalesFactsByPaymentIds(paymentIds);
+
+            for (OrderSalesFactDto fact : facts) {
+                delta.addOrder(fact, saleSign, saleSign * fact.getAmount(), cancelCount);
+            }
+            if (saleSign != 0) {
+                addProductLines(delta, facts, saleSign);
+            }
+            return facts;
+        });
+
+        flush(delta);
+    }
+
+    private void addProductLines(RollupDelta delta, List<OrderSalesFactDto> facts, int sign) {
+        if (facts.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, OrderSalesFactDto> byOrderId = facts.stream()
+                .collect(Collectors.toMap(OrderSalesFactDto::getOrderId, Function.identity()));
+
+        for (OrderProductLineDto line : orderRepository.findProductLinesByOrderIds(byOrderId.keySet())) {
+            delta.addProduct(byOrderId.get(line.getOrderId()), line.getProductId(), sign * line.getQuantity());
+        }
+    }
+
+    //정렬된 순서로 UPSERT (동시에 여러 집계 행을 갱신하는 트랜잭션끼리 교착되지 않도록)
+    private void flush(RollupDelta delta) {
+        delta.orders.forEach((key, totals) -> storeSalesRollupRepository.upsert(
+                key.storeId(), key.granularity().name(), key.bucketStart(), totals[0], totals[1], totals[2]));
+
+        delta.products.forEach((key, quantity) -> storeProductSalesRollupRepository.upsert(
+                key.bucket().storeId(), key.bucket().granularity().name(), key.bucket().bucketStart(), key.productId(), quantity));
+    }
+
+    private record BucketKey(UUID storeId, RollupGranularity granularity, LocalDateTime bucketStart) {
+
+        private static final Comparator<BucketKey> ORDER = Comparator.comparing(BucketKey::storeId)
+                .thenComparing(BucketKey::granularity)
+                .thenComparing(BucketKey::bucketStart);
+    }
+
+    private record ProductBucketKey(BucketKey bucket, UUID productId) {
+
+        private static final Comparator<ProductBucketKey> ORDER = Comparator.comparing(ProductBucketKey::bucket, BucketKey.ORDER)
+                .thenComparing(ProductBucketKey::productId);
+    }
+
+    //구간별 증감분 (orderCount, revenue, cancelCount) / 상품 수량
+    private static class RollupDelta {
+
+        private final Map<BucketKey, long[]> orders = new TreeMap<>(BucketKey.ORDER);
+        private final Map<ProductBucketKey, Long> products = new TreeMap<>(ProductBucketKey.ORDER);
+
+        void addOrder(OrderSalesFactDto fact, long orderCount, long revenue, long cancelCount) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                long[] totals = orders.computeIfAbsent(bucketKey(fact, granularity), key -> new long[3]);
+                totals[0] += orderCount;
+                totals[1] += revenue;
+                totals[2] += cancelCount;
+            }
+        }
+
+        void addProduct(OrderSalesFactDto fact, UUID productId, long quantity) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                products.merge(new ProductBucketKey(bucketKey(fact, granularity), productId), quantity, Long::sum);
+            }
+        }
+
+        private BucketKey bucketKey(OrderSalesFactDto fact, RollupGranularity granularity) {
+            return new BucketKey(fact.getStoreId(), granularity, granularity.bucketOf(fact.getCreatedAt()));
+        }
+    }
+}
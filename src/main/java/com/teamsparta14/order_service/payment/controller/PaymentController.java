@@ -1,8 +1,11 @@
 package com.teamsparta14.order_service.payment.controller;
 
 
+import com.teamsparta14.order_service.global.idempotency.IdempotencyService;
 import com.teamsparta14.order_service.global.response.ApiResponse;
 import com.teamsparta14.order_service.payment.dto.PaymentResponse;
+import com.teamsparta14.order_service.payment.dto.PaymentSettlementRequestDto;
+import com.teamsparta14.order_service.payment.dto.PaymentSettlementResponseDto;
 import com.teamsparta14.order_service.payment.dto.PaymentUpdateDto;
 import com.teamsparta14.order_service.payment.entity.Payment;
 import com.teamsparta14.order_service.payment.service.PaymentService;
@@ -22,6 +25,7 @@ import java.util.UUID;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotencyService idempotencyService;
 
 
     @Operation(summary = "결제 수정", description = "결제 수정 API")
@@ -29,20 +33,34 @@ public class PaymentController {
     @PostMapping
     public ResponseEntity<ApiResponse<PaymentResponse>> updatePayment(
             @RequestBody PaymentUpdateDto paymentUpdateDto,
-           @RequestHeader("access") String token
+           @AuthenticationPrincipal CustomUserDetails userDetails,
+           @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
             ){
 
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(ApiResponse.success(paymentService.updatePayment(paymentUpdateDto,userDetails)));
+        }
 
-        return ResponseEntity.ok(ApiResponse.success(paymentService.updatePayment(paymentUpdateDto,token)));
+        return ResponseEntity.ok(ApiResponse.success(idempotencyService.execute("payment:update", idempotencyKey, paymentUpdateDto,
+                PaymentResponse.class, () -> paymentService.updatePayment(paymentUpdateDto, userDetails))));
     }
+    @Operation(summary = "결제 일괄 정산", description = "PG 정산 결과를 한 번에 반영하는 API")
+    @PostMapping("/settlements")
+    public ResponseEntity<ApiResponse<PaymentSettlementResponseDto>> settlePayments(
+            @RequestBody PaymentSettlementRequestDto requestDto
+    ){
+
+        return ResponseEntity.ok(ApiResponse.success(paymentService.settlePayments(requestDto)));
+    }
+
     @Operation(summary = "결제 조회", description = "payment_id 통해결제 API")
     @Secured({"ROLE_OWNER","ROLE_MASTER"})
     @GetMapping("/{payment_id}")
     public ResponseEntity<ApiResponse<PaymentResponse>> getPayment(
             @PathVariable(name = "payment_id") UUID paymentId,
-            @RequestHeader("access") String token
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ){
 
-        return ResponseEntity.ok(ApiResponse.success(paymentService.getPayment(paymentId , token)));
+        return ResponseEntity.ok(ApiResponse.success(paymentService.getPayment(paymentId , userDetails)));
     }
 }
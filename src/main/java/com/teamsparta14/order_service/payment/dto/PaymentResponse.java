@@ -2,6 +2,7 @@ package com.teamsparta14.order_service.payment.dto;
 
 
 import com.teamsparta14.order_service.payment.entity.Payment;
+import com.teamsparta14.order_service.payment.entity.PaymentArchive;
 import com.teamsparta14.order_service.payment.entity.PaymentStatus;
 import lombok.*;
 
@@ -24,4 +25,12 @@ public class PaymentResponse {
                 .paymentId(payment.getPaymentId())
                 .build();
     }
+
+    public static PaymentResponse from(PaymentArchive payment) {
+        return builder()
+                .amount(payment.getAmount())
+                .paymentStatus(payment.getPaymentStatus())
+                .paymentId(payment.getPaymentId())
+                .build();
+    }
 }
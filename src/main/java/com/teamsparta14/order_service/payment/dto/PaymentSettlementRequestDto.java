@@ -0,0 +1,15 @@
+package com.teamsparta14.order_service.payment.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PaymentSettlementRequestDto {
+
+    private List<PaymentUpdateDto> transitions;
+}
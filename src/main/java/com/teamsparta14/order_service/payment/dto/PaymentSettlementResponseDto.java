@@ -0,0 +1,20 @@
+package com.teamsparta14.order_service.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class PaymentSettlementResponseDto {
+
+    private int appliedCount;
+    private List<UUID> applied;
+    private List<PaymentTransitionRejectDto> rejected;
+
+    public static PaymentSettlementResponseDto of(List<UUID> applied, List<PaymentTransitionRejectDto> rejected) {
+        return new PaymentSettlementResponseDto(applied.size(), applied, rejected);
+    }
+}
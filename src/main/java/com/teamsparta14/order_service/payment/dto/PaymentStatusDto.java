@@ -0,0 +1,16 @@
+package com.teamsparta14.order_service.payment.dto;
+
+import com.teamsparta14.order_service.payment.entity.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+//일괄 정산 시 현재 결제 상태 조회용
+@Getter
+@AllArgsConstructor
+public class PaymentStatusDto {
+
+    private UUID paymentId;
+    private PaymentStatus paymentStatus;
+}
@@ -0,0 +1,17 @@
+package com.teamsparta14.order_service.payment.dto;
+
+import com.teamsparta14.order_service.payment.entity.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class PaymentTransitionRejectDto {
+
+    private UUID paymentId;
+    private PaymentStatus currentStatus;
+    private PaymentStatus requestedStatus;
+    private String reason;
+}
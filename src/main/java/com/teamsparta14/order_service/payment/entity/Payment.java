@@ -2,9 +2,9 @@ package com.teamsparta14.order_service.payment.entity;
 
 
 import com.teamsparta14.order_service.domain.BaseEntity;
-import com.teamsparta14.order_service.order.entity.MyOrder;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
@@ -22,9 +22,6 @@ public class Payment extends BaseEntity {
     @UuidGenerator
     private UUID paymentId;
 
-    @OneToOne(mappedBy = "payment")
-    private MyOrder order;
-
     @Column(name = "user_name")
     private String userName;
 
@@ -35,5 +32,9 @@ public class Payment extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private PaymentStatus paymentStatus;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
 
 }
@@ -0,0 +1,33 @@
+package com.teamsparta14.order_service.payment.entity;
+
+import com.teamsparta14.order_service.domain.ArchivedBaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+//보관된 결제 (p_payment에서 주문과 함께 옮겨온 행)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Immutable
+@Table(name = "p_payment_archive")
+public class PaymentArchive extends ArchivedBaseEntity {
+
+    @Id
+    @Column(name = "payment_id")
+    private UUID paymentId;
+
+    @Column(name = "user_name")
+    private String userName;
+
+    @Column(name = "amount")
+    private Long amount;
+
+    @Column(name = "payment_status")
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus paymentStatus;
+}
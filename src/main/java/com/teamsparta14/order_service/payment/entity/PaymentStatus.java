@@ -4,7 +4,8 @@ package com.teamsparta14.order_service.payment.entity;
 public enum PaymentStatus {
     PENDING("결제 대기"),
     SUCCESS("결제 완료"),
-    FAILED("결제 실패");
+    FAILED("결제 실패"),
+    EXPIRED("결제 만료");
 
     private final String description;
 
@@ -15,4 +16,15 @@ public enum PaymentStatus {
     public String getDescription() {
         return description;
     }
+
+    //클라이언트/정산 요청으로 가능한 변경: 결제 대기 -> 완료/실패만 허용 (나머지는 최종 상태)
+    //만료는 주문 취소까지 함께 처리하는 만료 스케줄러(PaymentExpirySweeper -> expirePending)만 가능
+    public boolean canTransitionTo(PaymentStatus target) {
+        return this == PENDING && (target == SUCCESS || target == FAILED);
+    }
+
+    //잡아둔 재고를 돌려줘야 하는 상태
+    public boolean releasesStock() {
+        return this == FAILED || this == EXPIRED;
+    }
 }
\ No newline at end of file
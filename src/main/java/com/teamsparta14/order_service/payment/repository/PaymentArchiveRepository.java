@@ -0,0 +1,29 @@
+package com.teamsparta14.order_service.payment.repository;
+
+import com.teamsparta14.order_service.payment.entity.PaymentArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface PaymentArchiveRepository extends JpaRepository<PaymentArchive, UUID> {
+
+    @Modifying
+    @Query(value = "INSERT INTO p_payment_archive (payment_id, user_name, amount, payment_status, " +
+            "created_at, created_by, modified_at, modified_by, deleted_at, deleted_by, is_deleted, archived_at) " +
+            "SELECT p.payment_id, p.user_name, p.amount, p.payment_status, " +
+            "p.created_at, p.created_by, p.modified_at, p.modified_by, p.deleted_at, p.deleted_by, p.is_deleted, now() " +
+            "FROM p_payment p WHERE p.payment_id IN (:paymentIds) " +
+            "ON CONFLICT (payment_id) DO NOTHING", nativeQuery = true)
+    int copyPayments(@Param("paymentIds") Collection<UUID> paymentIds);
+
+    //주문을 먼저 지운 뒤 호출 (p_order.payment_id 외래 키)
+    @Modifying
+    @Query(value = "DELETE FROM p_payment WHERE payment_id IN (:paymentIds)", nativeQuery = true)
+    int deletePayments(@Param("paymentIds") Collection<UUID> paymentIds);
+}
@@ -0,0 +1,21 @@
+package com.teamsparta14.order_service.payment.repository;
+
+import com.teamsparta14.order_service.payment.dto.PaymentStatusDto;
+import com.teamsparta14.order_service.payment.entity.PaymentStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface PaymentCustomRepository {
+
+    //현재 상태 조회 + 행 잠금 (SELECT ... FOR UPDATE)
+    List<PaymentStatusDto> findStatusForUpdate(Collection<UUID> paymentIds);
+
+    //결제 대기 건만 요청 상태로 일괄 변경 (paymentId -> 상태)
+    long bulkTransitionFromPending(Map<UUID, PaymentStatus> transitions);
+
+    //결제 대기 건 일괄 만료 (만료 스케줄러 전용)
+    long expirePending(Collection<UUID> paymentIds);
+}
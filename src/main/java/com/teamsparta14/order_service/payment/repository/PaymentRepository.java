@@ -3,10 +3,27 @@ package com.teamsparta14.order_service.payment.repository;
 
 import com.teamsparta14.order_service.payment.entity.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, UUID> {
+public interface PaymentRepository extends JpaRepository<Payment, UUID>, PaymentCustomRepository {
+
+    //만료 대상 결제 대기 건 (다른 스케줄러 인스턴스가 잡은 행은 건너뜀)
+    @Query(value = "SELECT payment_id FROM p_payment " +
+            "WHERE payment_status = 'PENDING' AND created_at < :cutoff " +
+            "ORDER BY created_at LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<UUID> findPendingIdsCreatedBeforeForUpdate(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    //가장 오래된 결제 대기 건의 생성 시각 (부분 인덱스 사용)
+    @Query("SELECT MIN(p.createdAt) FROM Payment p " +
+            "WHERE p.paymentStatus = com.teamsparta14.order_service.payment.entity.PaymentStatus.PENDING")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
 }
@@ -0,0 +1,78 @@
+package com.teamsparta14.order_service.payment.repository;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teamsparta14.order_service.payment.dto.PaymentStatusDto;
+import com.teamsparta14.order_service.payment.entity.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.teamsparta14.order_service.payment.entity.QPayment.payment;
+
+@RequiredArgsConstructor
+public class PaymentRepositoryImpl implements PaymentCustomRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<PaymentStatusDto> findStatusForUpdate(Collection<UUID> paymentIds) {
+        return jpaQueryFactory
+                .select(Projections.constructor(PaymentStatusDto.class,
+                        payment.paymentId,
+                        payment.paymentStatus))
+                .from(payment)
+                .where(payment.paymentId.in(paymentIds))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public long bulkTransitionFromPending(Map<UUID, PaymentStatus> transitions) {
+
+        //목표 상태별 paymentId 묶음을 CASE 식으로 만들어 UPDATE 한 번에 반영
+        Map<PaymentStatus, List<UUID>> idsByStatus = transitions.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        Expression<PaymentStatus> newStatus = payment.paymentStatus;
+        for (Map.Entry<PaymentStatus, List<UUID>> entry : idsByStatus.entrySet()) {
+            newStatus = new CaseBuilder()
+                    .when(payment.paymentId.in(entry.getValue())).then(entry.getKey())
+                    .otherwise(newStatus);
+        }
+
+        return jpaQueryFactory
+                .update(payment)
+                .set(payment.paymentStatus, newStatus)
+                .set(payment.modifiedAt, LocalDateTime.now())
+                .set(payment.version, payment.version.add(1L))
+                .where(
+                        payment.paymentId.in(transitions.keySet()),
+                        payment.paymentStatus.eq(PaymentStatus.PENDING)
+                )
+                .execute();
+    }
+
+    @Override
+    public long expirePending(Collection<UUID> paymentIds) {
+        return jpaQueryFactory
+                .update(payment)
+                .set(payment.paymentStatus, PaymentStatus.EXPIRED)
+                .set(payment.modifiedAt, LocalDateTime.now())
+                .set(payment.version, payment.version.add(1L))
+                .where(
+                        payment.paymentId.in(paymentIds),
+                        payment.paymentStatus.eq(PaymentStatus.PENDING)
+                )
+                .execute();
+    }
+}
@@ -0,0 +1,118 @@
+package com.teamsparta14.order_service.payment.service;
+
+import com.teamsparta14.order_service.order.repository.OrderRepository;
+import com.teamsparta14.order_service.order.service.OrderService;
+import com.teamsparta14.order_service.order.service.SalesRollupService;
+import com.teamsparta14.order_service.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+//오래된 결제 대기 건을 만료 처리하고 주문 취소 + 재고 복구까지 이어서 처리
+@Slf4j
+@Component
+public class PaymentExpirySweeper {
+
+    private static final String SYSTEM_USER = "system";
+
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final SalesRollupService salesRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter expiredCounter;
+
+    //만료 기준을 넘긴 결제 대기 건 중 가장 오래된 것이 얼마나 밀려 있는지 (초)
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Value("${payment.expiry.pending-ttl-minutes:30}")
+    private long pendingTtlMinutes;
+
+    @Value("${payment.expiry.batch-size:500}")
+    private int batchSize;
+
+    //한 번 실행에서 처리할 최대 배치 수 (나머지는 다음 실행으로)
+    @Value("${payment.expiry.max-batches:20}")
+    private int maxBatches;
+
+    public PaymentExpirySweeper(PaymentRepository paymentRepository,
+                                OrderRepository orderRepository,
+                                OrderService orderService,
+                                SalesRollupService salesRollupService,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.salesRollupService = salesRollupService;
+        this.transactionTemplate = transactionTemplate;
+        this.expiredCounter = Counter.builder("payment.expiry.expired")
+                .description("만료 처리된 결제 대기 건수")
+                .register(meterRegistry);
+        Gauge.builder("payment.expiry.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("만료 기준을 넘기고도 남아 있는 가장 오래된 결제 대기 건의 지연 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.expiry.sweep-interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(pendingTtlMinutes);
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            //배치마다 별도 트랜잭션 (잠금은 배치 단위로만 유지)
+            Integer expired = transactionTemplate.execute(status -> expireBatch(cutoff));
+            total += expired == null ? 0 : expired;
+
+            if (expired == null || expired < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("결제 대기 {}건 만료 처리", total);
+        }
+
+        updateLag();
+    }
+
+    private int expireBatch(LocalDateTime cutoff) {
+        List<UUID> paymentIds = paymentRepository.findPendingIdsCreatedBeforeForUpdate(cutoff, batchSize);
+
+        if (paymentIds.isEmpty()) {
+            return 0;
+        }
+
+        //만료는 클라이언트 상태 변경(canTransitionTo)으로는 할 수 없는 시스템 전용 전이
+        paymentRepository.expirePending(paymentIds);
+        orderRepository.cancelByPaymentIds(paymentIds, LocalDateTime.now(), SYSTEM_USER);
+        orderService.releaseStock(paymentIds);
+        salesRollupService.recordCancelled(paymentIds, false);
+
+        expiredCounter.increment(paymentIds.size());
+        return paymentIds.size();
+    }
+
+    private void updateLag() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(pendingTtlMinutes);
+
+        long lag = paymentRepository.findOldestPendingCreatedAt()
+                .filter(oldest -> oldest.isBefore(cutoff))
+                .map(oldest -> Duration.between(oldest, cutoff).toSeconds())
+                .orElse(0L);
+
+        lagSeconds.set(lag);
+    }
+}
@@ -1,14 +1,31 @@
 package com.teamsparta14.order_service.payment.service;
 
+import com.teamsparta14.order_service.global.exception.BaseException;
+import com.teamsparta14.order_service.global.response.ResponseCode;
+import com.teamsparta14.order_service.order.service.OrderService;
+import com.teamsparta14.order_service.order.service.SalesRollupService;
 import com.teamsparta14.order_service.payment.dto.PaymentResponse;
+import com.teamsparta14.order_service.payment.dto.PaymentSettlementRequestDto;
+import com.teamsparta14.order_service.payment.dto.PaymentSettlementResponseDto;
+import com.teamsparta14.order_service.payment.dto.PaymentStatusDto;
+import com.teamsparta14.order_service.payment.dto.PaymentTransitionRejectDto;
 import com.teamsparta14.order_service.payment.dto.PaymentUpdateDto;
 import com.teamsparta14.order_service.payment.entity.Payment;
+import com.teamsparta14.order_service.payment.entity.PaymentStatus;
 import com.teamsparta14.order_service.payment.repository.PaymentRepository;
-import com.teamsparta14.order_service.user.jwt.JWTUtil;
+import com.teamsparta14.order_service.user.dto.CustomUserDetails;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -16,23 +33,107 @@ import java.util.UUID;
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
-    private final JWTUtil jwtUtil;
+    private final OrderService orderService;
+    private final SalesRollupService salesRollupService;
 
+    //일괄 정산 한 번에 받을 수 있는 최대 건수
+    private static final int MAX_SETTLEMENT_SIZE = 1000;
+
+    //충돌 시 다시 읽어서 재시도 (그 사이 상태가 바뀌었으면 전이 검증에서 거절됨)
     @Transactional
-    public PaymentResponse updatePayment(PaymentUpdateDto paymentUpdateDto, String token) {
+    @Retryable(retryFor = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 50, multiplier = 2))
+    public PaymentResponse updatePayment(PaymentUpdateDto paymentUpdateDto, CustomUserDetails userDetails) {
 
-        String userName = jwtUtil.getUsername(token);
+        String userName = userDetails.getUsername();
 
         Payment payment  = getPaymentByPaymentId(paymentUpdateDto.getPaymentId(),userName);
 
-        payment.setPaymentStatus(paymentUpdateDto.getPaymentStatus());
+        PaymentStatus target = paymentUpdateDto.getPaymentStatus();
+
+        if (!payment.getPaymentStatus().canTransitionTo(target)) {
+            throw new BaseException(ResponseCode.INVALID_PAYMENT_TRANSITION,
+                    payment.getPaymentStatus() + " -> " + target + " 변경은 허용되지 않습니다.");
+        }
+
+        payment.setPaymentStatus(target);
+
+        if (target.releasesStock()) {
+            orderService.releaseStock(List.of(payment.getPaymentId()));
+            salesRollupService.recordCancelled(List.of(payment.getPaymentId()), false);
+        } else if (target == PaymentStatus.SUCCESS) {
+            salesRollupService.recordPaid(List.of(payment.getPaymentId()));
+        }
 
         return PaymentResponse.from(payment);
     }
 
-    public PaymentResponse getPayment(UUID paymentId, String token) {
+    //PG 정산 콜백 일괄 반영
+    @Transactional
+    public PaymentSettlementResponseDto settlePayments(PaymentSettlementRequestDto requestDto) {
+
+        List<PaymentUpdateDto> transitions = requestDto.getTransitions();
+
+        if (transitions == null || transitions.isEmpty()) {
+            throw new IllegalArgumentException("정산할 결제가 없습니다.");
+        }
+
+        if (transitions.size() > MAX_SETTLEMENT_SIZE) {
+            throw new IllegalArgumentException("한 번에 정산할 수 있는 결제는 " + MAX_SETTLEMENT_SIZE + "건 이하입니다.");
+        }
+
+        //현재 상태를 잠금과 함께 한 번에 조회 (검증과 UPDATE 사이에 다른 요청이 끼어들지 못하게)
+        List<UUID> paymentIds = transitions.stream().map(PaymentUpdateDto::getPaymentId).toList();
+        Map<UUID, PaymentStatus> current = new HashMap<>();
+        for (PaymentStatusDto status : paymentRepository.findStatusForUpdate(paymentIds)) {
+            current.put(status.getPaymentId(), status.getPaymentStatus());
+        }
+
+        Map<UUID, PaymentStatus> accepted = new LinkedHashMap<>();
+        List<PaymentTransitionRejectDto> rejected = new ArrayList<>();
+
+        for (PaymentUpdateDto transition : transitions) {
+            UUID paymentId = transition.getPaymentId();
+            PaymentStatus target = transition.getPaymentStatus();
+            PaymentStatus status = current.get(paymentId);
+
+            if (status == null) {
+                rejected.add(new PaymentTransitionRejectDto(paymentId, null, target, "결제를 찾을 수 없습니다."));
+            } else if (accepted.containsKey(paymentId)) {
+                rejected.add(new PaymentTransitionRejectDto(paymentId, status, target, "같은 결제가 중복 요청되었습니다."));
+            } else if (!status.canTransitionTo(target)) {
+                rejected.add(new PaymentTransitionRejectDto(paymentId, status, target, "허용되지 않는 상태 변경입니다."));
+            } else {
+                accepted.put(paymentId, target);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            paymentRepository.bulkTransitionFromPending(accepted);
+
+            List<UUID> failed = accepted.entrySet().stream()
+                    .filter(entry -> entry.getValue().releasesStock())
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            if (!failed.isEmpty()) {
+                orderService.releaseStock(failed);
+                salesRollupService.recordCancelled(failed, false);
+            }
+
+            List<UUID> paid = accepted.entrySet().stream()
+                    .filter(entry -> entry.getValue() == PaymentStatus.SUCCESS)
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            salesRollupService.recordPaid(paid);
+        }
+
+        return PaymentSettlementResponseDto.of(new ArrayList<>(accepted.keySet()), rejected);
+    }
+
+    public PaymentResponse getPayment(UUID paymentId, CustomUserDetails userDetails) {
 
-        String userName = jwtUtil.getUsername(token);
+        String userName = userDetails.getUsername();
 
         Payment payment = getPaymentByPaymentId(paymentId,userName);
 
@@ -6,14 +6,18 @@ import com.teamsparta14.order_service.product.dto.ProductListResponseDto;
 import com.teamsparta14.order_service.product.dto.ProductRequestDto;
 import com.teamsparta14.order_service.product.dto.ProductResponseDto;
 import com.teamsparta14.order_service.product.dto.ProductSearchDto;
+import com.teamsparta14.order_service.product.dto.ProductStockSyncRequestDto;
+import com.teamsparta14.order_service.product.dto.ProductStockSyncResponseDto;
 import com.teamsparta14.order_service.product.entity.ProductStatus;
 import com.teamsparta14.order_service.product.entity.SortBy;
 import com.teamsparta14.order_service.product.service.ProductService;
+import com.teamsparta14.order_service.user.dto.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
@@ -96,23 +100,35 @@ public class ProductController {
     //상품 상태 변경
     @PatchMapping("/products/{productId}/status")
     public ResponseEntity<ProductResponseDto> updateProductStatus(
-            @RequestHeader("access") String token,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable("productId") UUID productId,
             @RequestParam("status") ProductStatus status
     ) {
-        ProductResponseDto responseDto = productService.updateProductStatus(token, productId, status);
+        ProductResponseDto responseDto = productService.updateProductStatus(userDetails, productId, status);
         return ResponseEntity.status(HttpStatus.OK).body(responseDto);
     }
 
     //상품 수량 업데이트
     @PutMapping("/products/{productId}/order")
     public ResponseEntity<ApiResponse<ProductResponseDto>> updateProductQuantity(
-            @RequestHeader("access") String token,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable("productId") UUID productId,
             @RequestBody ProductRequestDto requestDto
     ) {
 
-        ProductResponseDto responseDto = productService.updateProductQuantity(token, productId, requestDto);
+        ProductResponseDto responseDto = productService.updateProductQuantity(userDetails, productId, requestDto);
+
+        return ResponseEntity.ok().body(ApiResponse.success(responseDto));
+    }
+
+    //상품 재고 일괄 동기화
+    @PutMapping("/products/stock")
+    public ResponseEntity<ApiResponse<ProductStockSyncResponseDto>> syncProductStock(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody ProductStockSyncRequestDto requestDto
+    ) {
+
+        ProductStockSyncResponseDto responseDto = productService.syncProductStock(userDetails, requestDto);
 
         return ResponseEntity.ok().body(ApiResponse.success(responseDto));
     }
@@ -120,10 +136,10 @@ public class ProductController {
     //상품 삭제
     @PostMapping("/products/{productId}")
     public ResponseEntity<ApiResponse<ProductResponseDto>> deleteProduct(
-            @RequestHeader("access") String token,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable("productId") UUID productId) {
 
-        return ResponseEntity.ok().body(ApiResponse.success(productService.deleteProduct(token, productId)));
+        return ResponseEntity.ok().body(ApiResponse.success(productService.deleteProduct(userDetails, productId)));
     }
 
 
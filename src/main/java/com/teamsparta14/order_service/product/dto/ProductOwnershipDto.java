@@ -0,0 +1,24 @@
+package com.teamsparta14.order_service.product.dto;
+
+import com.teamsparta14.order_service.product.entity.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+//상품 변경 시 상품 정보와 가게 주인을 한 번에 조회
+@Getter
+@AllArgsConstructor
+public class ProductOwnershipDto {
+
+    private UUID productId;
+    private UUID storeId;
+    private String productName;
+    private Long productPrice;
+    private Long productQuantity;
+    private ProductStatus status;
+    private String productDescription;
+
+    //가게를 등록한 사용자 (p_store.created_by)
+    private String ownerName;
+}
@@ -30,6 +30,17 @@ public class ProductResponseDto {
                 .build();
     }
 
+    public static ProductResponseDto of(ProductOwnershipDto product, Long productQuantity) {
+        return ProductResponseDto.builder()
+                .storeId(product.getStoreId())
+                .productId(product.getProductId())
+                .productName(product.getProductName())
+                .productPrice(product.getProductPrice())
+                .productQuantity(productQuantity)
+                .description(product.getProductDescription())
+                .build();
+    }
+
     public void setStoreId(String storeId) {
         this.storeId = UUID.fromString(storeId);
     }
@@ -0,0 +1,22 @@
+package com.teamsparta14.order_service.product.dto;
+
+import com.teamsparta14.order_service.product.entity.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockChangeDto {
+
+    private UUID productId;
+    private Long beforeQuantity;
+    private Long afterQuantity;
+    private ProductStatus beforeStatus;
+    private ProductStatus afterStatus;
+}
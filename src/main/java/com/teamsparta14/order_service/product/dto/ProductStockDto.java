@@ -0,0 +1,17 @@
+package com.teamsparta14.order_service.product.dto;
+
+import com.teamsparta14.order_service.product.entity.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+//재고 동기화 시 변경 전 상태 조회용
+@Getter
+@AllArgsConstructor
+public class ProductStockDto {
+
+    private UUID productId;
+    private Long productQuantity;
+    private ProductStatus status;
+}
@@ -0,0 +1,19 @@
+package com.teamsparta14.order_service.product.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductStockSyncRequestDto {
+
+    private UUID storeId;
+
+    //productId -> 변경할 재고 수량
+    private Map<UUID, Long> quantities;
+}
@@ -0,0 +1,60 @@
+package com.teamsparta14.order_service.product.dto;
+
+import com.teamsparta14.order_service.product.entity.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockSyncResponseDto {
+
+    //수량 또는 상태가 바뀐 상품
+    private List<ProductStockChangeDto> changes;
+
+    //요청과 기존 값이 같아 바뀌지 않은 상품 수
+    private int unchangedCount;
+
+    //해당 가게에 없거나 삭제된 상품
+    private List<UUID> notFound;
+
+    public static ProductStockSyncResponseDto of(List<ProductStockDto> before, Map<UUID, Long> quantities) {
+        List<ProductStockChangeDto> changes = new ArrayList<>();
+        Set<UUID> found = new HashSet<>();
+        int unchangedCount = 0;
+
+        for (ProductStockDto stock : before) {
+            found.add(stock.getProductId());
+
+            Long afterQuantity = quantities.get(stock.getProductId());
+            ProductStatus afterStatus = stock.getStatus().afterQuantityChange(afterQuantity);
+
+            if (afterQuantity.equals(stock.getProductQuantity()) && afterStatus == stock.getStatus()) {
+                unchangedCount++;
+                continue;
+            }
+
+            changes.add(ProductStockChangeDto.builder()
+                    .productId(stock.getProductId())
+                    .beforeQuantity(stock.getProductQuantity())
+                    .afterQuantity(afterQuantity)
+                    .beforeStatus(stock.getStatus())
+                    .afterStatus(afterStatus)
+                    .build());
+        }
+
+        List<UUID> notFound = quantities.keySet().stream()
+                .filter(productId -> !found.contains(productId))
+                .toList();
+
+        return new ProductStockSyncResponseDto(changes, unchangedCount, notFound);
+    }
+}
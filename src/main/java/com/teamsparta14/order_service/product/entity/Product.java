@@ -41,14 +41,14 @@ public class Product extends BaseEntity {
     @ColumnDefault("0")
     private Long productQuantity;
 
-    @NotNull
-    @ColumnDefault("false")
-    private boolean isDeleted;
-
     @Enumerated(EnumType.STRING)
     @Builder.Default
     private ProductStatus status = ProductStatus.ON_SALE;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @Column(length = 100)
     private String productDescription;
 
@@ -57,7 +57,6 @@ public class Product extends BaseEntity {
         this.productName = requestDto.getProductName();
         this.productPrice = requestDto.getProductPrice();
         this.productQuantity = requestDto.getProductQuantity();
-        this.isDeleted = false;
         this.status = ProductStatus.ON_SALE;
         this.productDescription = productDescription;
     }
@@ -68,10 +67,6 @@ public class Product extends BaseEntity {
         this.productQuantity = requestDto.getProductQuantity();
     }
 
-    public void delete() {
-        this.isDeleted = true;
-    }
-
     public void updateOrderCount(Long productQuantity) {
 
         if (productQuantity < 0) {
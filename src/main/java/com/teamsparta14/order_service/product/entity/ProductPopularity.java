@@ -0,0 +1,32 @@
+package com.teamsparta14.order_service.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//상품 인기 점수 (주문 수량만큼 오르고, 취소되면 내려가며, 주기적으로 감쇠)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "p_product_popularity",
+        indexes = @Index(name = "idx_product_popularity_store_score", columnList = "store_id, score"))
+public class ProductPopularity {
+
+    @Id
+    @Column(name = "product_id")
+    private UUID productId;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    //마지막으로 감쇠를 적용한 시각
+    @Column(name = "decayed_at")
+    private LocalDateTime decayedAt;
+}
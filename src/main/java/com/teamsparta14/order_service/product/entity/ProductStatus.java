@@ -11,4 +11,16 @@ public enum ProductStatus {
     HIDDEN("숨김");
 
     private final String description;
+
+    //재고 수량 변경에 따른 상태 전이 (숨김 상태는 유지)
+    //CustomProductRepositoryImpl의 일괄 업데이트 CASE 식과 같은 규칙
+    public ProductStatus afterQuantityChange(long quantity) {
+        if (quantity == 0 && this == ON_SALE) {
+            return SOLD_OUT;
+        }
+        if (quantity > 0 && this == SOLD_OUT) {
+            return ON_SALE;
+        }
+        return this;
+    }
 }
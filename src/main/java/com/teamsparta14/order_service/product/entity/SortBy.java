@@ -1,5 +1,5 @@
 package com.teamsparta14.order_service.product.entity;
 
 public enum SortBy {
-    LATEST, MODIFIED
-}
\ No newline at end of file
+    LATEST, MODIFIED, POPULAR
+}
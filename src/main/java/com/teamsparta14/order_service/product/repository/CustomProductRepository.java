@@ -1,12 +1,17 @@
 package com.teamsparta14.order_service.product.repository;
 
+import com.querydsl.core.Tuple;
+import com.teamsparta14.order_service.product.dto.ProductOwnershipDto;
 import com.teamsparta14.order_service.product.dto.ProductSearchDto;
+import com.teamsparta14.order_service.product.dto.ProductStockDto;
 import com.teamsparta14.order_service.product.entity.Product;
 import com.teamsparta14.order_service.product.entity.ProductStatus;
 import com.teamsparta14.order_service.product.entity.SortBy;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,4 +31,25 @@ public interface CustomProductRepository {
     UUID findStoreIdByProductId(UUID productId);
 
     boolean existsByStoreIdAndProductId(UUID storeId, UUID productId);
+
+    //재고 동기화 전 상태 조회 (SELECT ... FOR UPDATE, 호출하는 쪽 트랜잭션이 끝날 때까지 다른 재고 변경을 막음)
+    List<ProductStockDto> findStockByStoreIdAndProductIds(UUID storeId, Collection<UUID> productIds);
+
+    //재고 일괄 업데이트 (productId -> 수량)
+    long bulkUpdateQuantity(UUID storeId, Map<UUID, Long> quantities);
+
+    //주문 재고 차감/복구 (productId -> 증감량), 재고가 음수가 되는 상품은 제외
+    long adjustStock(Map<UUID, Long> deltas);
+
+    //상품과 가게 주인을 한 번에 조회
+    Optional<ProductOwnershipDto> findOwnershipByProductId(UUID productId);
+
+    //가게 존재 여부와 가게 주인 조회
+    Optional<Tuple> findStoreOwnerByStoreId(UUID storeId);
+
+    //상품 상태 변경 (조건부 UPDATE)
+    long updateStatus(UUID productId, ProductStatus status);
+
+    //상품 삭제 (조건부 UPDATE)
+    long softDelete(UUID productId, String deletedBy);
 }
@@ -1,22 +1,36 @@
 package com.teamsparta14.order_service.product.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.teamsparta14.order_service.product.dto.ProductOwnershipDto;
 import com.teamsparta14.order_service.product.dto.ProductSearchDto;
+import com.teamsparta14.order_service.product.dto.ProductStockDto;
 import com.teamsparta14.order_service.product.entity.Product;
 import com.teamsparta14.order_service.product.entity.ProductStatus;
 import com.teamsparta14.order_service.product.entity.SortBy;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static com.teamsparta14.order_service.product.entity.QProduct.product;
+import static com.teamsparta14.order_service.product.entity.QProductPopularity.productPopularity;
+import static com.teamsparta14.order_service.store.entity.QStore.store;
 
 @RequiredArgsConstructor
 public class CustomProductRepositoryImpl implements CustomProductRepository {
@@ -79,20 +93,177 @@ public class CustomProductRepositoryImpl implements CustomProductRepository {
         return isDeleted != null && !isDeleted;
     }
 
+    @Override
+    public List<ProductStockDto> findStockByStoreIdAndProductIds(UUID storeId, Collection<UUID> productIds) {
+        return queryFactory
+                .select(Projections.constructor(ProductStockDto.class,
+                        product.id,
+                        product.productQuantity,
+                        product.status))
+                .from(product)
+                .where(
+                        product.storeId.eq(storeId),
+                        product.id.in(productIds),
+                        product.isDeleted.eq(false)
+                )
+                .orderBy(product.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public long bulkUpdateQuantity(UUID storeId, Map<UUID, Long> quantities) {
+
+        //productId 별 수량을 CASE 식 하나로 묶어 UPDATE 한 번에 반영
+        CaseBuilder.Cases<Long, NumberExpression<Long>> quantityCases = null;
+        for (Map.Entry<UUID, Long> entry : quantities.entrySet()) {
+            BooleanExpression matches = product.id.eq(entry.getKey());
+            quantityCases = quantityCases == null
+                    ? new CaseBuilder().when(matches).then(entry.getValue())
+                    : quantityCases.when(matches).then(entry.getValue());
+        }
+        NumberExpression<Long> newQuantity = quantityCases.otherwise(product.productQuantity);
+
+        return queryFactory
+                .update(product)
+                .set(product.productQuantity, newQuantity)
+                .set(product.status, statusAfterQuantityChange(newQuantity))
+                .set(product.modifiedAt, LocalDateTime.now())
+                .set(product.version, product.version.add(1L))
+                .where(
+                        product.storeId.eq(storeId),
+                        product.id.in(quantities.keySet()),
+                        product.isDeleted.eq(false)
+                )
+                .execute();
+    }
+
+    @Override
+    public long adjustStock(Map<UUID, Long> deltas) {
+
+        CaseBuilder.Cases<Long, NumberExpression<Long>> deltaCases = null;
+        for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+            BooleanExpression matches = product.id.eq(entry.getKey());
+            deltaCases = deltaCases == null
+                    ? new CaseBuilder().when(matches).then(entry.getValue())
+                    : deltaCases.when(matches).then(entry.getValue());
+        }
+        NumberExpression<Long> newQuantity = product.productQuantity.add(deltaCases.otherwise(0L));
+
+        return queryFactory
+                .update(product)
+                .set(product.productQuantity, newQuantity)
+                .set(product.status, statusAfterQuantityChange(newQuantity))
+                .set(product.modifiedAt, LocalDateTime.now())
+                .set(product.version, product.version.add(1L))
+                .where(
+                        product.id.in(deltas.keySet()),
+                        product.isDeleted.eq(false),
+                        newQuantity.goe(0L)
+                )
+                .execute();
+    }
+
+    @Override
+    public Optional<ProductOwnershipDto> findOwnershipByProductId(UUID productId) {
+        return Optional.ofNullable(
+                queryFactory
+                        .select(Projections.constructor(ProductOwnershipDto.class,
+                                product.id,
+                                product.storeId,
+                                product.productName,
+                                product.productPrice,
+                                product.productQuantity,
+                                product.status,
+                                product.productDescription,
+                                store.createdBy))
+                        .from(product)
+                        .join(store).on(store.id.eq(product.storeId))
+                        .where(
+                                product.id.eq(productId),
+                                product.isDeleted.eq(false),
+                                store.isDeleted.eq(false)
+                        )
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public Optional<Tuple> findStoreOwnerByStoreId(UUID storeId) {
+        return Optional.ofNullable(
+                queryFactory
+                        .select(store.id, store.createdBy)
+                        .from(store)
+                        .where(
+                                store.id.eq(storeId),
+                                store.isDeleted.eq(false)
+                        )
+                        .fetchOne()
+        );
+    }
+
+    @Override
+    public long updateStatus(UUID productId, ProductStatus status) {
+        return queryFactory
+                .update(product)
+                .set(product.status, status)
+                .set(product.modifiedAt, LocalDateTime.now())
+                .set(product.version, product.version.add(1L))
+                .where(
+                        product.id.eq(productId),
+                        product.isDeleted.eq(false)
+                )
+                .execute();
+    }
+
+    @Override
+    public long softDelete(UUID productId, String deletedBy) {
+        return queryFactory
+                .update(product)
+                .set(product.isDeleted, true)
+                .set(product.deletedAt, LocalDateTime.now())
+                .set(product.deletedBy, deletedBy)
+                .set(product.version, product.version.add(1L))
+                .where(
+                        product.id.eq(productId),
+                        product.isDeleted.eq(false)
+                )
+                .execute();
+    }
+
+    //품절/판매중 전이를 SQL에서 계산 (ProductStatus.afterQuantityChange와 같은 규칙)
+    private Expression<ProductStatus> statusAfterQuantityChange(NumberExpression<Long> newQuantity) {
+        return new CaseBuilder()
+                .when(newQuantity.eq(0L).and(product.status.eq(ProductStatus.ON_SALE)))
+                .then(ProductStatus.SOLD_OUT)
+                .when(newQuantity.gt(0L).and(product.status.eq(ProductStatus.SOLD_OUT)))
+                .then(ProductStatus.ON_SALE)
+                .otherwise(product.status);
+    }
+
     //공통 쿼리 메서드
     private List<Product> getProductQuery(UUID storeId, String keyword, Pageable pageable, SortBy sortBy, ProductStatus status) {
 
         int pageSize = validatePageSize(pageable.getPageSize());
 
-        return queryFactory
+        JPAQuery<Product> query = queryFactory
                 .selectFrom(product)
                 .where(
                         product.storeId.eq(storeId)
                                 .and(getTitleLike(product.productName, keyword))
                                 .and(product.isDeleted.eq(false))
                                 .and(getStatusCondition(status))
-                )
-                .orderBy(getOrderSpecifier(sortBy))
+                );
+
+        //인기순은 미리 쌓아둔 점수만 붙여서 정렬 (주문 테이블은 읽지 않음)
+        if (sortBy == SortBy.POPULAR) {
+            query.leftJoin(productPopularity).on(productPopularity.productId.eq(product.id))
+                    .orderBy(productPopularity.score.coalesce(0.0).desc(), product.createdAt.desc());
+        } else {
+            query.orderBy(getOrderSpecifier(sortBy));
+        }
+
+        return query
                 .offset(pageable.getOffset())
                 .limit(pageSize)
                 .fetch();
@@ -0,0 +1,42 @@
+package com.teamsparta14.order_service.product.repository;
+
+import com.teamsparta14.order_service.product.entity.ProductPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Repository
+public interface ProductPopularityRepository extends JpaRepository<ProductPopularity, UUID> {
+
+    //점수에 증감분 더하기 (행이 없으면 상품의 가게 id로 생성, 0 아래로는 내려가지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO p_product_popularity (product_id, store_id, score, decayed_at) " +
+            "SELECT p.id, p.store_id, GREATEST(:delta, 0), now() FROM p_product p WHERE p.id = :productId " +
+            "ON CONFLICT (product_id) DO UPDATE SET " +
+            "score = GREATEST(p_product_popularity.score + :delta, 0)", nativeQuery = true)
+    int addScore(@Param("productId") UUID productId, @Param("delta") double delta);
+
+    //마지막 감쇠 이후 지난 시간만큼 감쇠 (주기 intervalSeconds마다 factor배)
+    //몇 번을 실행해도 지난 시간만큼만 줄어듦 (decayed_at이 없는 기존 행은 지금부터 감쇠)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE p_product_popularity SET " +
+            "score = score * power(:factor, GREATEST(extract(epoch FROM (now() - coalesce(decayed_at, now()))), 0) / :intervalSeconds), " +
+            "decayed_at = now() WHERE score > 0", nativeQuery = true)
+    int decayAll(@Param("factor") double factor, @Param("intervalSeconds") double intervalSeconds);
+
+    //여러 인스턴스가 동시에 감쇠하지 않도록 (트랜잭션이 끝나면 자동 해제)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('p_product_popularity'))", nativeQuery = true)
+    boolean tryLockForDecay();
+
+    //감쇠로 의미 없어진 점수 정리
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProductPopularity p WHERE p.score < :floor")
+    int deleteBelow(@Param("floor") double floor);
+}
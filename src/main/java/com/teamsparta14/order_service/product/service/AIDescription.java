@@ -4,6 +4,7 @@ package com.teamsparta14.order_service.product.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -17,8 +18,11 @@ import java.net.URI;
 
 
 @Component
+@RequiredArgsConstructor
 public class AIDescription {
 
+    private final RestTemplate restTemplate;
+
 
     @Value("${API_KEY}")
     private String API_KEY;
@@ -43,8 +47,6 @@ public class AIDescription {
 
         HttpEntity<String> request = new HttpEntity<>(requestBody, headers);
 
-        RestTemplate restTemplate = new RestTemplate();
-
         ResponseEntity<String> responseEntity = restTemplate.postForEntity(uri, request, String.class);
 
         String response = parseDescriptionFromResponse(responseEntity.getBody());
@@ -0,0 +1,79 @@
+package com.teamsparta14.order_service.product.service;
+
+import com.teamsparta14.order_service.product.repository.ProductPopularityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+//인기순 정렬용 점수 관리 (p_product_popularity)
+//메뉴 조회는 점수 테이블만 읽고, 점수 갱신은 주문 생성/수정/취소 트랜잭션에서 같이 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductPopularityService {
+
+    private final ProductPopularityRepository productPopularityRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    //감쇠 주기마다 곱하는 값 (기본: 1시간마다 0.95배, 약 14시간 반감기)
+    @Value("${product.popularity.decay-factor:0.95}")
+    private double decayFactor;
+
+    @Value("${product.popularity.decay-interval-ms:3600000}")
+    private long decayIntervalMs;
+
+    @Value("${product.popularity.min-score:0.01}")
+    private double minScore;
+
+    //주문 수량 반영 (양수는 주문, 음수는 취소), 호출하는 쪽 트랜잭션에서 실행
+    public void recordOrderedQuantities(Map<UUID, Long> orderedQuantities) {
+        Map<UUID, Double> deltas = new HashMap<>();
+        orderedQuantities.forEach((productId, quantity) -> deltas.put(productId, quantity.doubleValue()));
+        recordScoreDeltas(deltas);
+    }
+
+    //점수 증감분 반영, 호출하는 쪽 트랜잭션에서 실행
+    public void recordScoreDeltas(Map<UUID, Double> deltas) {
+        //productId 순서로 갱신 (동시에 같은 상품들을 주문하는 트랜잭션끼리 교착되지 않도록)
+        new TreeMap<>(deltas).forEach((productId, delta) -> {
+            if (delta != 0) {
+                productPopularityRepository.addScore(productId, delta);
+            }
+        });
+    }
+
+    //orderedAt에 더한 점수가 지금까지 감쇠되고 남은 비율 (취소/수정 시 이 비율만큼만 뺌)
+    public double remainingWeight(LocalDateTime orderedAt) {
+        if (orderedAt == null) {
+            return 1;
+        }
+        long elapsedMs = Math.max(Duration.between(orderedAt, LocalDateTime.now()).toMillis(), 0);
+        return Math.pow(decayFactor, (double) elapsedMs / decayIntervalMs);
+    }
+
+    //감쇠는 마지막 감쇠 이후 지난 시간 기준이라 여러 인스턴스에서 실행돼도 두 번 줄지 않음
+    //같은 시각에 겹쳐 실행되면 락을 못 잡은 쪽은 건너뜀
+    @Scheduled(fixedDelayString = "${product.popularity.decay-interval-ms:3600000}")
+    public void decay() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!productPopularityRepository.tryLockForDecay()) {
+                return;
+            }
+
+            int decayed = productPopularityRepository.decayAll(decayFactor, decayIntervalMs / 1000.0);
+            int removed = productPopularityRepository.deleteBelow(minScore);
+
+            log.debug("인기 점수 감쇠 {}건, 정리 {}건", decayed, removed);
+        });
+    }
+}
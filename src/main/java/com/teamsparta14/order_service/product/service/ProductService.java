@@ -1,9 +1,15 @@
 package com.teamsparta14.order_service.product.service;
 
+import com.querydsl.core.Tuple;
+import com.teamsparta14.order_service.global.enums.Role;
 import com.teamsparta14.order_service.order.repository.StoresClient;
+import com.teamsparta14.order_service.product.dto.ProductOwnershipDto;
 import com.teamsparta14.order_service.product.dto.ProductRequestDto;
 import com.teamsparta14.order_service.product.dto.ProductResponseDto;
 import com.teamsparta14.order_service.product.dto.ProductSearchDto;
+import com.teamsparta14.order_service.product.dto.ProductStockDto;
+import com.teamsparta14.order_service.product.dto.ProductStockSyncRequestDto;
+import com.teamsparta14.order_service.product.dto.ProductStockSyncResponseDto;
 import com.teamsparta14.order_service.product.entity.Description;
 import com.teamsparta14.order_service.product.entity.Product;
 import com.teamsparta14.order_service.product.entity.ProductStatus;
@@ -11,16 +17,22 @@ import com.teamsparta14.order_service.product.entity.SortBy;
 import com.teamsparta14.order_service.product.repository.DescriptionRepository;
 import com.teamsparta14.order_service.product.repository.ProductRepository;
 import com.teamsparta14.order_service.store.dto.StoreResponseDto;
+import com.teamsparta14.order_service.user.dto.CustomUserDetails;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -31,6 +43,11 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final DescriptionRepository descriptionRepository;
     private final StoresClient storesClient;
+    private final AIDescription aiDescription;
+    private final TransactionTemplate transactionTemplate;
+
+    //재고 일괄 동기화 한 번에 받을 수 있는 최대 상품 수
+    private static final int MAX_STOCK_SYNC_SIZE = 1000;
 
     //상품 전체 조회
     public List<ProductResponseDto> getProducts(UUID storeId, Pageable pageable, SortBy sortBy, ProductStatus status) {
@@ -53,7 +70,8 @@ public class ProductService {
     }
 
     //상품 등록
-    @Transactional
+    //외부 호출(가게 확인, AI 설명)은 트랜잭션 밖에서 먼저 끝내고 저장만 트랜잭션으로
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductResponseDto addProduct(String token, ProductRequestDto requestDto) {
 
         //dto 내부 storeId를 통해 store가 존재하는지 확인
@@ -65,96 +83,124 @@ public class ProductService {
         }
 
         //Ai 상품 설명
-        AIDescription aiDescription = new AIDescription();
-
         String aiRequest = requestDto.getProductName() + "란 음식을 50자 이내로 설명해줘";
         String aiResponse = aiDescription.getDescription(aiRequest);
 
-        Description description =  Description.builder()
-                .request(aiRequest)
-                .response(aiResponse)
-                .build();
+        Product product = transactionTemplate.execute(status -> {
+            descriptionRepository.save(Description.builder()
+                    .request(aiRequest)
+                    .response(aiResponse)
+                    .build());
 
-        descriptionRepository.save(description);
-
-        Product product = productRepository.save(new Product(requestDto,storeId,aiResponse));
+            return productRepository.save(new Product(requestDto, storeId, aiResponse));
+        });
 
         return ProductResponseDto.of(product);
     }
 
     //상품 수정
-    @Transactional
+    //가게 확인(외부 호출)은 트랜잭션 밖에서, 상품 확인과 수정만 트랜잭션으로
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Retryable(retryFor = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 50, multiplier = 2))
     public ProductResponseDto updateProduct(String token, UUID productId, ProductRequestDto requestDto) {
 
         //dto 내부 storeId를 통해 store가 존재하는지 확인
-        UUID storeId = requestDto.getStoreId();
+        StoreResponseDto store = findStore(token, requestDto.getStoreId());
 
-        //해당 가게와 상품이 맞는 지 체크
-        validateStoreAndProduct(token, storeId, productId);
+        return transactionTemplate.execute(status -> {
+            //storeId에 등록된 상품인지 체크
+            if (!productRepository.existsByStoreIdAndProductId(store.getId(), productId)) {
+                throw new AccessDeniedException("해당 가게에 속한 상품이 아닙니다.");
+            }
 
-        //Db에서 상품 확인
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("수정할 상품을 찾을 수 없습니다."));
+            //Db에서 상품 확인
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new EntityNotFoundException("수정할 상품을 찾을 수 없습니다."));
 
-        product.update(requestDto);
+            product.update(requestDto);
 
-        return ProductResponseDto.of(product);
+            return ProductResponseDto.of(product);
+        });
     }
 
     //상품 삭제
     @Transactional
-    public ProductResponseDto deleteProduct(String token, UUID productId) {
+    public ProductResponseDto deleteProduct(CustomUserDetails userDetails, UUID productId) {
 
-        //dto 내부 storeId를 통해 store가 존재하는지 확인
-        UUID storeId = productRepository.findStoreIdByProductId(productId);
+        //상품과 가게 주인을 한 번에 조회해 권한 확인
+        ProductOwnershipDto target = findOwnedProduct(userDetails, productId);
 
-        //해당 가게와 상품이 맞는 지 체크
-        validateStoreAndProduct(token, storeId, productId);
+        if (productRepository.softDelete(productId, userDetails.getUsername()) == 0) {
+            throw new EntityNotFoundException("삭제할 상품을 찾을 수 없습니다.");
+        }
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("수정할 상품을 찾을 수 없습니다."));
+        return ProductResponseDto.of(target, target.getProductQuantity());
+    }
 
-        product.delete();
-        product.setDeleted(LocalDateTime.now(), "User");
+    //상품 수량 업데이트
+    @Transactional
+    public ProductResponseDto updateProductQuantity(CustomUserDetails userDetails, UUID productId, ProductRequestDto requestDto) {
 
-        return ProductResponseDto.of(product);
+        Long quantity = requestDto.getProductQuantity();
+
+        if (quantity == null || quantity < 0) {
+            throw new IllegalArgumentException("수량은 0 이상이어야 합니다.");
+        }
+
+        ProductOwnershipDto target = findOwnedProduct(userDetails, productId);
+
+        //품절/판매중 전이는 재고 일괄 동기화와 같은 UPDATE로 처리
+        if (productRepository.bulkUpdateQuantity(target.getStoreId(), Map.of(productId, quantity)) == 0) {
+            throw new EntityNotFoundException("수정할 상품을 찾을 수 없습니다.");
+        }
+
+        return ProductResponseDto.of(target, quantity);
     }
 
-    //상품 수량 업데이트
+    //상품 재고 일괄 동기화 (POS 재고 연동)
     @Transactional
-    public ProductResponseDto updateProductQuantity(String token, UUID productId, ProductRequestDto requestDto) {
+    public ProductStockSyncResponseDto syncProductStock(CustomUserDetails userDetails, ProductStockSyncRequestDto requestDto) {
 
-        //dto 내부 storeId를 통해 store가 존재하는지 확인
-        UUID storeId = productRepository.findStoreIdByProductId(productId);
+        Map<UUID, Long> quantities = requestDto.getQuantities();
+
+        if (quantities == null || quantities.isEmpty()) {
+            throw new IllegalArgumentException("동기화할 상품이 없습니다.");
+        }
 
-        //해당 가게와 상품이 맞는 지 체크
-        validateStoreAndProduct(token, storeId, productId);
+        if (quantities.size() > MAX_STOCK_SYNC_SIZE) {
+            throw new IllegalArgumentException("한 번에 동기화할 수 있는 상품은 " + MAX_STOCK_SYNC_SIZE + "개 이하입니다.");
+        }
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("수정할 상품을 찾을 수 없습니다."));
+        if (quantities.values().stream().anyMatch(quantity -> quantity == null || quantity < 0)) {
+            throw new IllegalArgumentException("수량은 0 이상이어야 합니다.");
+        }
 
-        product.updateOrderCount(requestDto.getProductQuantity());
-        productRepository.save(product);
+        //가게 확인은 상품마다가 아니라 요청당 한 번만
+        UUID storeId = requestDto.getStoreId();
+        Tuple store = productRepository.findStoreOwnerByStoreId(storeId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 가게를 찾을 수 없습니다."));
 
-        return ProductResponseDto.of(product);
+        checkOwner(userDetails, store.get(1, String.class));
+
+        //변경 전 상태를 한 번에 잠가서 조회한 뒤 UPDATE 한 번으로 반영
+        //(잠그지 않으면 조회와 UPDATE 사이에 주문이 재고를 바꿔 응답의 변경 전 수량이 실제와 달라짐)
+        List<ProductStockDto> before = productRepository.findStockByStoreIdAndProductIds(storeId, quantities.keySet());
+        productRepository.bulkUpdateQuantity(storeId, quantities);
+
+        return ProductStockSyncResponseDto.of(before, quantities);
     }
 
     //상품 상태 변경
     @Transactional
-    public ProductResponseDto updateProductStatus(String token, UUID productId, ProductStatus status) {
-
-        //dto 내부 storeId를 통해 store가 존재하는지 확인
-        UUID storeId = productRepository.findStoreIdByProductId(productId);
-        
-        //해당 가게와 상품이 맞는 지 체크
-        validateStoreAndProduct(token, storeId, productId);
+    public ProductResponseDto updateProductStatus(CustomUserDetails userDetails, UUID productId, ProductStatus status) {
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("수정할 상품을 찾을 수 없습니다."));
+        ProductOwnershipDto target = findOwnedProduct(userDetails, productId);
 
-        product.updateStatus(status);
+        if (productRepository.updateStatus(productId, status) == 0) {
+            throw new EntityNotFoundException("수정할 상품을 찾을 수 없습니다.");
+        }
 
-        return ProductResponseDto.of(product);
+        return ProductResponseDto.of(target, target.getProductQuantity());
     }
 
     //상품 검색
@@ -184,18 +230,36 @@ public class ProductService {
         return responseDtoList;
     }
 
-    //store, product 공통 검증 로직
-    private void validateStoreAndProduct(String token, UUID storeId, UUID productId) {
+    //상품 + 가게 주인 조회 후 메모리에서 권한 확인 (조회 한 번)
+    private ProductOwnershipDto findOwnedProduct(CustomUserDetails userDetails, UUID productId) {
+        ProductOwnershipDto target = productRepository.findOwnershipByProductId(productId)
+                .orElseThrow(() -> new EntityNotFoundException("수정할 상품을 찾을 수 없습니다."));
+
+        checkOwner(userDetails, target.getOwnerName());
+
+        return target;
+    }
+
+    //MASTER/MANAGER는 모든 가게, OWNER는 본인이 등록한 가게만 (StoreService.checkStoreOwner와 같은 규칙)
+    private void checkOwner(CustomUserDetails userDetails, String ownerName) {
+        Role role = userDetails.getRole();
+        if (role == Role.ROLE_MASTER || role == Role.ROLE_MANAGER) {
+            return;
+        }
+
+        if (role != Role.ROLE_OWNER || ownerName == null || !ownerName.equals(userDetails.getUsername())) {
+            throw new AccessDeniedException("본인 가게의 상품만 변경할 수 있습니다.");
+        }
+    }
+
+    //가게 서비스에서 가게 확인 (외부 호출이므로 트랜잭션 밖에서 호출)
+    private StoreResponseDto findStore(String token, UUID storeId) {
         StoreResponseDto store = storesClient.searchStore(String.valueOf(storeId),token);
 
         if(null == store){
             throw new IllegalArgumentException("해당 가게를 찾을 수 없습니다.");
         }
 
-        //storeId에 등록된 상품인지 체크
-        boolean productExists = productRepository.existsByStoreIdAndProductId(store.getId(), productId);
-        if (!productExists) {
-            throw new AccessDeniedException("해당 가게에 속한 상품이 아닙니다.");
-        }
+        return store;
     }
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.teamsparta14.order_service.global.response.ApiResponse;
 import com.teamsparta14.order_service.product.entity.SortBy;
 import com.teamsparta14.order_service.review.dto.ReviewRequestDto;
 import com.teamsparta14.order_service.review.dto.ReviewResponseDto;
+import com.teamsparta14.order_service.review.dto.ReviewScrollResponseDto;
+import com.teamsparta14.order_service.review.dto.ReviewSummaryResponseDto;
 import com.teamsparta14.order_service.review.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +25,9 @@ public class ReviewController {
 
     private final ReviewService reviewService;
 
+    private static final int DEFAULT_SIZE = 10;
+    private static final List<Integer> ALLOWED_PAGE_SIZES = Arrays.asList(10, 30, 50);
+
     //리뷰 전체 조회
     @GetMapping
     public ResponseEntity<ApiResponse<List<ReviewResponseDto>>> getReviews(
@@ -36,6 +42,26 @@ public class ReviewController {
         return ResponseEntity.ok().body(ApiResponse.success(products));
     }
 
+    //리뷰 스크롤 조회 (응답의 nextCursor를 다음 요청의 cursor로 전달)
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<ReviewScrollResponseDto>> getReviewScroll(
+            @RequestParam("store_id") UUID storeId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "sort", defaultValue = "LATEST") SortBy sortBy
+    ) {
+        int pageSize = ALLOWED_PAGE_SIZES.contains(size) ? size : DEFAULT_SIZE;
+
+        return ResponseEntity.ok().body(ApiResponse.success(reviewService.getReviewScroll(storeId, sortBy, cursor, pageSize)));
+    }
+
+    //가게 리뷰 요약 (별점 분포, 리뷰 수, 평균, 최근 리뷰)
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<ReviewSummaryResponseDto>> getReviewSummary(@RequestParam("store_id") UUID storeId) {
+
+        return ResponseEntity.ok().body(ApiResponse.success(reviewService.getReviewSummary(storeId)));
+    }
+
     //리뷰 상세 조회
     @GetMapping("/{reviewId}")
     public ResponseEntity<ApiResponse<ReviewResponseDto>> getReviewDetails(@PathVariable("reviewId") UUID reviewId) {
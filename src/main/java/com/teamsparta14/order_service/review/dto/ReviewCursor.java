@@ -0,0 +1,27 @@
+package com.teamsparta14.order_service.review.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+//리뷰 스크롤 조회 위치 (마지막으로 받은 리뷰의 정렬 시각, id)
+public record ReviewCursor(LocalDateTime sortedAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = sortedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReviewCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new ReviewCursor(LocalDateTime.parse(raw.substring(0, index)), UUID.fromString(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
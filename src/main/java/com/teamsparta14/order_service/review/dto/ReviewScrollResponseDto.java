@@ -0,0 +1,19 @@
+package com.teamsparta14.order_service.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+//리뷰 스크롤 조회 응답 (nextCursor가 null이면 마지막 페이지)
+@Getter
+@AllArgsConstructor
+public class ReviewScrollResponseDto {
+
+    private List<ReviewResponseDto> reviews;
+    private String nextCursor;
+
+    public static ReviewScrollResponseDto of(List<ReviewResponseDto> reviews, ReviewCursor nextCursor) {
+        return new ReviewScrollResponseDto(reviews, nextCursor != null ? nextCursor.encode() : null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.teamsparta14.order_service.review.dto;
+
+import com.teamsparta14.order_service.review.entity.Stars;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+//가게 리뷰 요약 (별점 분포, 리뷰 수, 평균, 최근 리뷰)
+@Getter
+@AllArgsConstructor
+public class ReviewSummaryResponseDto {
+
+    private UUID storeId;
+    private long reviewCount;
+    private double averageRating;
+    private Map<Stars, Long> histogram;
+    private List<ReviewResponseDto> recentReviews;
+}
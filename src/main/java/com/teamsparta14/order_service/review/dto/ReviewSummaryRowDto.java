@@ -0,0 +1,29 @@
+package com.teamsparta14.order_service.review.dto;
+
+import com.teamsparta14.order_service.review.entity.Stars;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+//리뷰 요약 재생성용 조회 결과 (엔티티로 읽지 않아 영속성 컨텍스트에 쌓이지 않음)
+@Getter
+@AllArgsConstructor
+public class ReviewSummaryRowDto {
+
+    private UUID reviewId;
+    private UUID storeId;
+    private String userName;
+    private String review;
+    private Stars star;
+
+    public ReviewResponseDto toResponse() {
+        return ReviewResponseDto.builder()
+                .storeId(storeId)
+                .reviewId(reviewId)
+                .userName(userName)
+                .review(review)
+                .star(star)
+                .build();
+    }
+}
@@ -8,14 +8,19 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.ColumnDefault;
 
 import java.util.UUID;
 
 @Builder
 @Entity
 @Getter
-@Table(name="p_review")
+@Table(name="p_review", indexes = {
+        //스크롤 조회 (store_id, is_deleted 조건 + 정렬 시각, id 순)
+        @Index(name = "idx_review_store_created", columnList = "store_id, is_deleted, created_at, id"),
+        @Index(name = "idx_review_store_modified", columnList = "store_id, is_deleted, modified_at, id"),
+        //주문별 리뷰 작성 여부 확인
+        @Index(name = "idx_review_order", columnList = "order_id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Review  extends BaseEntity {
@@ -39,9 +44,6 @@ public class Review  extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private Stars star;
 
-    @ColumnDefault("false")
-    private boolean isDeleted;
-
     public static Review from(ReviewRequestDto requestDto, String user) {
         return Review.builder()
                 .storeId(requestDto.getStoreId())
@@ -59,7 +61,7 @@ public class Review  extends BaseEntity {
         this.star = requestDto.getStar() != null ? requestDto.getStar() : Stars.ZERO;
     }
 
-    public void delete() {
-        this.isDeleted = true;
+    public void delete(String deletedBy) {
+        softDelete(deletedBy);
     }
 }
@@ -0,0 +1,41 @@
+package com.teamsparta14.order_service.review.entity;
+
+import com.teamsparta14.order_service.domain.ArchivedBaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+//보관된 리뷰 (p_review에서 옮겨온 행)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Immutable
+@Table(name = "p_review_archive", indexes = {
+        @Index(name = "idx_review_archive_store_created", columnList = "store_id, created_at")
+})
+public class ReviewArchive extends ArchivedBaseEntity {
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "user_name", nullable = false)
+    private String userName;
+
+    @Column(name = "review", nullable = false)
+    private String review;
+
+    @Column(name = "star")
+    @Enumerated(EnumType.STRING)
+    private Stars star;
+}
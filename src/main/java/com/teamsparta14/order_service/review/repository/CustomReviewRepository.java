@@ -1,6 +1,7 @@
 package com.teamsparta14.order_service.review.repository;
 
 import com.teamsparta14.order_service.product.entity.SortBy;
+import com.teamsparta14.order_service.review.dto.ReviewCursor;
 import com.teamsparta14.order_service.review.entity.Review;
 import org.springframework.data.domain.Pageable;
 
@@ -13,11 +14,18 @@ public interface CustomReviewRepository {
     //리뷰 전체 조회
     List<Review> findAllByStoreId(UUID storeId, Pageable pageable, SortBy sortBy);
 
+    //리뷰 스크롤 조회 (cursor 다음부터 size 건, 첫 페이지는 cursor null)
+    List<Review> findScrollByStoreId(UUID storeId, SortBy sortBy, ReviewCursor cursor, int size);
+
     //상품 상세 조회
     Optional<Review> findByReviewId(UUID reviewId);
 
     //리뷰 작성자 찾기
     String findWriterByReviewId(UUID reviewId);
 
+    //리뷰를 쓸 수 있는 주문인지 확인 (본인 주문, 같은 가게, 결제 완료, 취소되지 않음, 아직 리뷰 없음)
+    boolean isOrderEligibleForReview(UUID orderId, UUID storeId, String userName);
+
+    //삭제되지 않은 리뷰가 있는지 확인
     boolean existsByStoreIdAndUserName(UUID storeId, String user);
 }
@@ -1,17 +1,25 @@
 package com.teamsparta14.order_service.review.repository;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.JPAExpressions;
+import com.teamsparta14.order_service.payment.entity.PaymentStatus;
 import com.teamsparta14.order_service.product.entity.SortBy;
+import com.teamsparta14.order_service.review.dto.ReviewCursor;
 import com.teamsparta14.order_service.review.entity.Review;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.teamsparta14.order_service.order.entity.QMyOrder.myOrder;
+import static com.teamsparta14.order_service.payment.entity.QPayment.payment;
 import static com.teamsparta14.order_service.review.entity.QReview.review1;
 
 @RequiredArgsConstructor
@@ -52,6 +60,33 @@ public class CustomReviewRepositoryImpl implements CustomReviewRepository {
                 .fetch();
     }
 
+    @Override
+    public List<Review> findScrollByStoreId(UUID storeId, SortBy sortBy, ReviewCursor cursor, int size) {
+        //정렬 기준 시각 (LATEST, POPULAR는 작성일)
+        DateTimePath<LocalDateTime> sortedAt = sortBy == SortBy.MODIFIED ? review1.modifiedAt : review1.createdAt;
+
+        return queryFactory
+                .selectFrom(review1)
+                .where(
+                        review1.storeId.eq(storeId),
+                        review1.isDeleted.eq(false),
+                        after(sortedAt, cursor)
+                )
+                .orderBy(sortedAt.desc(), review1.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    //(정렬 시각, id)가 커서보다 뒤인 리뷰 (인덱스 범위 조회로 처리되어 페이지가 깊어져도 비용이 같음)
+    private BooleanExpression after(DateTimePath<LocalDateTime> sortedAt, ReviewCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return sortedAt.lt(cursor.sortedAt())
+                .or(sortedAt.eq(cursor.sortedAt()).and(review1.id.lt(cursor.id())));
+    }
+
     @Override
     public Optional<Review> findByReviewId(UUID reviewId) {
         return Optional.ofNullable(
@@ -78,11 +113,37 @@ public class CustomReviewRepositoryImpl implements CustomReviewRepository {
                 .fetchOne();
     }
 
+    @Override
+    public boolean isOrderEligibleForReview(UUID orderId, UUID storeId, String userName) {
+        //주문 PK로 한 건만 찾는 쿼리 하나로 확인 (리뷰 존재 여부는 idx_review_order 사용)
+        return queryFactory.selectOne()
+                .from(myOrder)
+                .join(myOrder.payment, payment)
+                .where(
+                        myOrder.orderId.eq(orderId),
+                        myOrder.userName.eq(userName),
+                        myOrder.storeId.eq(storeId),
+                        myOrder.isDeleted.isFalse(),
+                        payment.paymentStatus.eq(PaymentStatus.SUCCESS),
+                        JPAExpressions.selectOne()
+                                .from(review1)
+                                .where(
+                                        review1.orderId.eq(orderId),
+                                        review1.isDeleted.eq(false)
+                                )
+                                .notExists()
+                )
+                .fetchFirst() != null;
+    }
+
     @Override
     public boolean existsByStoreIdAndUserName(UUID storeId, String user) {
-        return queryFactory.selectFrom(review1)
+        //개수를 세지 않고 한 건만 찾으면 종료 (uk_review_store_user_active 인덱스 사용)
+        return queryFactory.selectOne()
+                .from(review1)
                 .where(review1.storeId.eq(storeId)
-                        .and(review1.userName.eq(user)))
-                .fetchCount() > 0;
+                        .and(review1.userName.eq(user))
+                        .and(review1.isDeleted.eq(false)))
+                .fetchFirst() != null;
     }
 }
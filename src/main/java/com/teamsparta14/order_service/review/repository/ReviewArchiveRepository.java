@@ -0,0 +1,39 @@
+package com.teamsparta14.order_service.review.repository;
+
+import com.teamsparta14.order_service.review.entity.ReviewArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+//p_review -> p_review_archive 이동
+@Repository
+public interface ReviewArchiveRepository extends JpaRepository<ReviewArchive, UUID> {
+
+    //삭제된 리뷰만 옮김 (살아 있는 리뷰는 가게당 리뷰 하나 제약을 위해 p_review에 남김)
+    @Query(value = "SELECT r.id FROM p_review r " +
+            "WHERE r.is_deleted = true AND r.deleted_at < :deletedBefore " +
+            "ORDER BY r.created_at, r.id " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<UUID> findArchivableReviewIds(@Param("deletedBefore") LocalDateTime deletedBefore,
+                                       @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO p_review_archive (id, store_id, order_id, user_name, review, star, " +
+            "created_at, created_by, modified_at, modified_by, deleted_at, deleted_by, is_deleted, archived_at) " +
+            "SELECT r.id, r.store_id, r.order_id, r.user_name, r.review, r.star, " +
+            "r.created_at, r.created_by, r.modified_at, r.modified_by, r.deleted_at, r.deleted_by, r.is_deleted, now() " +
+            "FROM p_review r WHERE r.id IN (:reviewIds) " +
+            "ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int copyReviews(@Param("reviewIds") Collection<UUID> reviewIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM p_review WHERE id IN (:reviewIds)", nativeQuery = true)
+    int deleteReviews(@Param("reviewIds") Collection<UUID> reviewIds);
+}
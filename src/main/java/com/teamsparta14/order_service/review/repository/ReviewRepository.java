@@ -1,11 +1,22 @@
 package com.teamsparta14.order_service.review.repository;
 
+import com.teamsparta14.order_service.review.dto.ReviewSummaryRowDto;
 import com.teamsparta14.order_service.review.entity.Review;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, UUID>, CustomReviewRepository {
+
+    //리뷰 요약 재생성용, 가게별 작성 순으로 fetch size 단위로 나눠 읽음 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT new com.teamsparta14.order_service.review.dto.ReviewSummaryRowDto(r.id, r.storeId, r.userName, r.review, r.star) " +
+            "FROM Review r WHERE r.isDeleted = false ORDER BY r.storeId, r.createdAt")
+    Stream<ReviewSummaryRowDto> streamActiveForSummary();
 }
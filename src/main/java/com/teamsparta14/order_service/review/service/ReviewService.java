@@ -1,44 +1,52 @@
 package com.teamsparta14.order_service.review.service;
 
-import com.teamsparta14.order_service.order.dto.OrderResponse;
+import com.teamsparta14.order_service.global.exception.BaseException;
+import com.teamsparta14.order_service.global.response.ResponseCode;
 import com.teamsparta14.order_service.order.repository.StoresClient;
 import com.teamsparta14.order_service.product.entity.SortBy;
 import com.teamsparta14.order_service.review.dto.RatingDto;
+import com.teamsparta14.order_service.review.dto.ReviewCursor;
 import com.teamsparta14.order_service.review.dto.ReviewRequestDto;
 import com.teamsparta14.order_service.review.dto.ReviewResponseDto;
+import com.teamsparta14.order_service.review.dto.ReviewScrollResponseDto;
+import com.teamsparta14.order_service.review.dto.ReviewSummaryResponseDto;
 import com.teamsparta14.order_service.review.entity.Review;
-import com.teamsparta14.order_service.review.repository.OrderClient;
+import com.teamsparta14.order_service.review.entity.Stars;
 import com.teamsparta14.order_service.review.repository.ReviewRepository;
 import com.teamsparta14.order_service.user.jwt.JWTUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
-import java.time.LocalDateTime;
 import java.util.*;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ReviewService {
 
+    private static final String ACTIVE_REVIEW_UNIQUE_KEY = "uk_review_store_user_active";
+
     private final ReviewRepository reviewRepository;
     private final RestClient restClient;
     private final JWTUtil jwtUtil;
     private final StoresClient storesClient;
-    private final OrderClient orderClient;
+    private final ReviewSummaryCache reviewSummaryCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${SERVER_URL}")
     private String SERVER_URL;
@@ -56,6 +64,29 @@ public class ReviewService {
         return responseDtoList;
     }
 
+    //리뷰 스크롤 조회 (size + 1 건을 읽어 다음 페이지가 있는지 확인)
+    public ReviewScrollResponseDto getReviewScroll(UUID storeId, SortBy sortBy, String cursor, int size) {
+
+        ReviewCursor after = cursor == null || cursor.isBlank() ? null : ReviewCursor.decode(cursor);
+        List<Review> reviewList = reviewRepository.findScrollByStoreId(storeId, sortBy, after, size + 1);
+
+        boolean hasNext = reviewList.size() > size;
+        List<Review> page = hasNext ? reviewList.subList(0, size) : reviewList;
+
+        ReviewCursor next = null;
+        if (hasNext) {
+            Review last = page.get(page.size() - 1);
+            next = new ReviewCursor(sortBy == SortBy.MODIFIED ? last.getModifiedAt() : last.getCreatedAt(), last.getId());
+        }
+
+        return ReviewScrollResponseDto.of(page.stream().map(ReviewResponseDto::of).toList(), next);
+    }
+
+    //가게 리뷰 요약 조회 (메모리에서 바로 응답)
+    public ReviewSummaryResponseDto getReviewSummary(UUID storeId) {
+        return reviewSummaryCache.getSummary(storeId);
+    }
+
     //리뷰 상세 조회
     public ReviewResponseDto getReviewDetails(UUID reviewId) {
 
@@ -66,54 +97,70 @@ public class ReviewService {
     }
 
     //리뷰 등록
-    @Transactional
+    //가게 확인과 별점 전송(외부 호출)은 트랜잭션 밖에서, 주문 확인과 저장만 트랜잭션으로
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReviewResponseDto createReview(ReviewRequestDto requestDto, String token) {
 
         String userName = jwtUtil.getUsername(token);
 
-        //dto 내부 storeId를 통해 store가 존재하는지 확인 구현 예정
+        //dto 내부 storeId를 통해 store가 존재하는지 확인
         Optional.ofNullable(storesClient.searchStore(requestDto.getStoreId().toString(), token))
                 .orElseThrow(() -> new IllegalArgumentException("store Not found"));
 
-        OrderResponse orderResponse = orderClient.searchOrderList(requestDto.getOrderId(), token);
-
-
-        //작성한 리뷰가 있는지 확인
-        if (reviewRepository.existsByStoreIdAndUserName(requestDto.getStoreId(), userName)) {
-            throw new IllegalArgumentException("이미 작성한 리뷰가 있습니다.");
-        }
+        ReviewResponseDto responseDto = transactionTemplate.execute(status -> {
+            //주문 확인은 HTTP 호출 없이 p_order를 직접 조회
+            if (!reviewRepository.isOrderEligibleForReview(requestDto.getOrderId(), requestDto.getStoreId(), userName)) {
+                throw new IllegalArgumentException("리뷰를 작성할 수 있는 주문이 아닙니다.");
+            }
+
+            //작성한 리뷰가 있는지 확인
+            if (reviewRepository.existsByStoreIdAndUserName(requestDto.getStoreId(), userName)) {
+                throw new BaseException(ResponseCode.REVIEW_ALREADY_EXIST);
+            }
+
+            //동시에 같은 리뷰가 들어오면 uk_review_store_user_active 위반으로 하나만 저장됨
+            Review review;
+            try {
+                review = reviewRepository.saveAndFlush(Review.from(requestDto, userName));
+            } catch (DataIntegrityViolationException e) {
+                if (e.getCause() instanceof ConstraintViolationException violation
+                        && ACTIVE_REVIEW_UNIQUE_KEY.equalsIgnoreCase(violation.getConstraintName())) {
+                    throw new BaseException(ResponseCode.REVIEW_ALREADY_EXIST, ResponseCode.REVIEW_ALREADY_EXIST.getMessage(), e);
+                }
+                throw e;
+            }
+
+            ReviewResponseDto saved = ReviewResponseDto.of(review);
+            reviewSummaryCache.added(saved);
+            return saved;
+        });
+
+        sendRating(requestDto.getStoreId(), responseDto.getStar(), token);
+
+        return responseDto;
+    }
 
-        Review review = reviewRepository.save(Review.from(requestDto, userName));
-        
-        //가게로 별점 보내기
-        RatingDto ratingDto = new RatingDto(review.getStar());
+    //가게로 별점 보내기 (리뷰 커밋 후)
+    //실패해도 리뷰는 이미 저장되었으므로 경고만 남김
+    private void sendRating(UUID storeId, Stars star, String token) {
 
-        //storeId와 별점을 전달할 URL
         URI uri = UriComponentsBuilder
-                .fromUriString("SERVER_URL")
-                .path("/api/stores/" + requestDto.getStoreId() + "/rating")
+                .fromUriString(SERVER_URL)
+                .path("/api/stores/" + storeId + "/rating")
                 .encode()
                 .build()
                 .toUri();
 
-
-        Map<String, Integer> requestBody = new HashMap<>();
-        requestBody.put("star",requestDto.getStar().getValue());
-
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("access", token);
-
-        HttpEntity<Map<String, Integer>> request = new HttpEntity<>(requestBody, headers);
-
-        ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.POST, request, String.class);
-        System.out.println(response.getBody());
-
-        if(!response.getStatusCode().is2xxSuccessful()){
-            throw new IllegalArgumentException("can not update store rating");
+        try {
+            restClient.post()
+                    .uri(uri)
+                    .header("access", token)
+                    .body(new RatingDto(star))
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RestClientException e) {
+            log.warn("가게 별점 반영 실패 storeId={}: {}", storeId, e.getMessage());
         }
-
-        return ReviewResponseDto.of(review);
     }
 
     //리뷰 수정
@@ -123,9 +170,14 @@ public class ReviewService {
         String userName = jwtUtil.getUsername(token);
         Review review = checkWriterAndFind(reviewId, userName);
 
+        UUID previousStoreId = review.getStoreId();
+        Stars previousStar = review.getStar();
         review.update(requestDto, userName);
 
-        return ReviewResponseDto.of(review);
+        ReviewResponseDto responseDto = ReviewResponseDto.of(review);
+        reviewSummaryCache.updated(previousStoreId, previousStar, responseDto);
+
+        return responseDto;
     }
 
     //리뷰 삭제
@@ -135,10 +187,12 @@ public class ReviewService {
         String userName = jwtUtil.getUsername(token);
         Review review = checkWriterAndFind(reviewId, userName);
 
-        review.delete();
-        review.setDeleted(LocalDateTime.now(), userName);
+        review.delete(userName);
 
-        return ReviewResponseDto.of(review);
+        ReviewResponseDto responseDto = ReviewResponseDto.of(review);
+        reviewSummaryCache.removed(responseDto);
+
+        return responseDto;
     }
 
     //공통 권한 체크 및 리뷰 찾기
@@ -0,0 +1,263 @@
+package com.teamsparta14.order_service.review.service;
+
+import com.teamsparta14.order_service.review.dto.ReviewResponseDto;
+import com.teamsparta14.order_service.review.dto.ReviewSummaryResponseDto;
+import com.teamsparta14.order_service.review.dto.ReviewSummaryRowDto;
+import com.teamsparta14.order_service.review.entity.Stars;
+import com.teamsparta14.order_service.review.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+//가게별 리뷰 요약 (별점 분포, 리뷰 수, 최근 리뷰) 메모리 캐시
+//서버 시작 시 p_review를 스트리밍으로 읽어 만들고, 이후에는 ReviewService의 등록/수정/삭제가 커밋된 뒤 증감분만 반영
+//다른 인스턴스에서 바뀐 리뷰는 resync 주기마다 다시 읽어서 맞춤
+@Slf4j
+@Component
+public class ReviewSummaryCache implements SmartInitializingSingleton {
+
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${review.summary.recent-size:10}")
+    private int recentSize;
+
+    private volatile Map<UUID, StoreReviewSummary> summaries = new ConcurrentHashMap<>();
+
+    //재생성 중에 커밋된 변경 (재생성 중이 아니면 null), this로 잠금
+    private List<ReviewChange> pendingChanges;
+
+    public ReviewSummaryCache(ReviewRepository reviewRepository, PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    //요청을 받기 전에 (웹 서버 시작 전) 한 번 채움
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    //재생성 중(스트리밍 ~ 교체) 커밋된 변경은 버퍼에 모았다가 새 요약에 다시 적용한 뒤 교체
+    //스트리밍 결과에 이미 들어간 변경인지는 읽은 리뷰의 가게/별점(seen)과 비교해서 판단 (두 번 반영되지 않도록)
+    @Scheduled(initialDelayString = "${review.summary.resync-interval-ms:600000}",
+            fixedDelayString = "${review.summary.resync-interval-ms:600000}")
+    public void rebuild() {
+        Map<UUID, StoreReviewSummary> rebuilt = new ConcurrentHashMap<>();
+        Map<UUID, ReviewState> seen = new HashMap<>();
+
+        synchronized (this) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        Long count;
+        try {
+            count = readOnlyTransaction.execute(status -> {
+                long read = 0;
+                try (Stream<ReviewSummaryRowDto> rows = reviewRepository.streamActiveForSummary()) {
+                    for (ReviewSummaryRowDto row : (Iterable<ReviewSummaryRowDto>) rows::iterator) {
+                        ReviewResponseDto review = row.toResponse();
+                        summaryOf(rebuilt, row.getStoreId()).add(row.getStar(), review);
+                        seen.put(review.getReviewId(), new ReviewState(row.getStoreId(), row.getStar()));
+                        read++;
+                    }
+                }
+                return read;
+            });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+
+        int replayed;
+        synchronized (this) {
+            replayed = pendingChanges.size();
+            for (ReviewChange change : pendingChanges) {
+                replay(change, rebuilt, seen);
+            }
+            summaries = rebuilt;
+            pendingChanges = null;
+        }
+
+        log.info("리뷰 요약 재생성: 가게 {}곳, 리뷰 {}건 (재생성 중 변경 {}건 재적용)", rebuilt.size(), count, replayed);
+    }
+
+    public ReviewSummaryResponseDto getSummary(UUID storeId) {
+        StoreReviewSummary summary = summaries.get(storeId);
+        if (summary == null) {
+            return new ReviewSummaryResponseDto(storeId, 0, 0.0, emptyHistogram(), List.of());
+        }
+        return summary.toResponse(storeId);
+    }
+
+    public void added(ReviewResponseDto review) {
+        afterCommit(new ReviewChange(review.getReviewId(), review), target ->
+                summaryOf(target, review.getStoreId()).add(review.getStar(), review));
+    }
+
+    //수정 전 가게/별점과 수정 후 리뷰 (가게가 바뀐 경우 이전 가게에서 빼고 새 가게에 더함)
+    public void updated(UUID previousStoreId, Stars previousStar, ReviewResponseDto review) {
+        afterCommit(new ReviewChange(review.getReviewId(), review), target -> {
+            if (previousStoreId.equals(review.getStoreId())) {
+                summaryOf(target, review.getStoreId()).replace(previousStar, review);
+            } else {
+                summaryOf(target, previousStoreId).remove(previousStar, review.getReviewId());
+                summaryOf(target, review.getStoreId()).add(review.getStar(), review);
+            }
+        });
+    }
+
+    public void removed(ReviewResponseDto review) {
+        afterCommit(new ReviewChange(review.getReviewId(), null), target ->
+                summaryOf(target, review.getStoreId()).remove(review.getStar(), review.getReviewId()));
+    }
+
+    private StoreReviewSummary summaryOf(Map<UUID, StoreReviewSummary> target, UUID storeId) {
+        return target.computeIfAbsent(storeId, id -> new StoreReviewSummary(recentSize));
+    }
+
+    //버퍼에 모인 변경을 새 요약에 적용 (변경 후 상태와 스트리밍으로 읽은 상태를 비교하므로 여러 번 적용해도 결과가 같음)
+    private void replay(ReviewChange change, Map<UUID, StoreReviewSummary> rebuilt, Map<UUID, ReviewState> seen) {
+        ReviewState previous = seen.remove(change.reviewId());
+        ReviewResponseDto review = change.review();
+
+        if (review == null) {
+            if (previous != null) {
+                summaryOf(rebuilt, previous.storeId()).remove(previous.star(), change.reviewId());
+            }
+            return;
+        }
+
+        if (previous == null) {
+            summaryOf(rebuilt, review.getStoreId()).add(review.getStar(), review);
+        } else if (previous.storeId().equals(review.getStoreId())) {
+            summaryOf(rebuilt, review.getStoreId()).replace(previous.star(), review);
+        } else {
+            summaryOf(rebuilt, previous.storeId()).remove(previous.star(), change.reviewId());
+            summaryOf(rebuilt, review.getStoreId()).add(review.getStar(), review);
+        }
+        seen.put(change.reviewId(), new ReviewState(review.getStoreId(), review.getStar()));
+    }
+
+    //롤백된 변경이 요약에 들어가지 않도록 커밋 후 반영
+    private void afterCommit(ReviewChange change, Consumer<Map<UUID, StoreReviewSummary>> action) {
+        Runnable apply = () -> {
+            Map<UUID, StoreReviewSummary> target;
+            synchronized (this) {
+                if (pendingChanges != null) {
+                    pendingChanges.add(change);
+                }
+                target = summaries;
+            }
+            action.accept(target);
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    private static Map<Stars, Long> emptyHistogram() {
+        Map<Stars, Long> histogram = new EnumMap<>(Stars.class);
+        for (Stars star : Stars.values()) {
+            histogram.put(star, 0L);
+        }
+        return histogram;
+    }
+
+    //커밋된 리뷰 변경 (review는 변경 후 상태, 삭제면 null)
+    private record ReviewChange(UUID reviewId, ReviewResponseDto review) {
+    }
+
+    private record ReviewState(UUID storeId, Stars star) {
+    }
+
+    //가게 한 곳의 요약, 메서드 단위로 잠금
+    private static class StoreReviewSummary {
+
+        private final long[] histogram = new long[Stars.values().length];
+        private final Deque<ReviewResponseDto> recent = new ArrayDeque<>();
+        private final int recentSize;
+        private long count;
+
+        StoreReviewSummary(int recentSize) {
+            this.recentSize = recentSize;
+        }
+
+        synchronized void add(Stars star, ReviewResponseDto review) {
+            histogram[starOf(star).ordinal()]++;
+            count++;
+
+            recent.addFirst(review);
+            if (recent.size() > recentSize) {
+                recent.removeLast();
+            }
+        }
+
+        synchronized void replace(Stars previousStar, ReviewResponseDto review) {
+            histogram[starOf(previousStar).ordinal()]--;
+            histogram[starOf(review.getStar()).ordinal()]++;
+
+            List<ReviewResponseDto> updated = new ArrayList<>(recent.size());
+            for (ReviewResponseDto item : recent) {
+                updated.add(item.getReviewId().equals(review.getReviewId()) ? review : item);
+            }
+            recent.clear();
+            recent.addAll(updated);
+        }
+
+        synchronized void remove(Stars star, UUID reviewId) {
+            if (count == 0) {
+                return;
+            }
+            histogram[starOf(star).ordinal()]--;
+            count--;
+            recent.removeIf(item -> item.getReviewId().equals(reviewId));
+        }
+
+        synchronized ReviewSummaryResponseDto toResponse(UUID storeId) {
+            Map<Stars, Long> histogramByStar = new EnumMap<>(Stars.class);
+            long total = 0;
+            for (Stars star : Stars.values()) {
+                histogramByStar.put(star, histogram[star.ordinal()]);
+                total += histogram[star.ordinal()] * star.getValue();
+            }
+
+            double average = count == 0 ? 0.0 : Math.round(total * 10.0 / count) / 10.0;
+            return new ReviewSummaryResponseDto(storeId, count, average, histogramByStar, List.copyOf(recent));
+        }
+
+        private Stars starOf(Stars star) {
+            return star != null ? star : Stars.ZERO;
+        }
+    }
+}
@@ -7,11 +7,13 @@ import com.teamsparta14.order_service.store.entity.SortBy;
 import com.teamsparta14.order_service.store.entity.Store;
 import com.teamsparta14.order_service.store.entity.StoreStatus;
 import com.teamsparta14.order_service.store.service.StoreService;
+import com.teamsparta14.order_service.user.dto.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -46,8 +48,8 @@ public class StoreController {
     // [GET] 특정 가게 조회
 
     @GetMapping("/stores/{storeId}")
-    public ResponseEntity<ApiResponse<StoreResponseDto>> getStore(@PathVariable(name = "storeId") UUID storeId,@RequestHeader("access") String token) {
-        Store store = storeService.getStoreById(storeId , token);
+    public ResponseEntity<ApiResponse<StoreResponseDto>> getStore(@PathVariable(name = "storeId") UUID storeId) {
+        Store store = storeService.getStoreById(storeId);
         StoreResponseDto storeResponseDto =  new StoreResponseDto(store);
         return ResponseEntity.ok(ApiResponse.success(storeResponseDto));
     }
@@ -56,11 +58,11 @@ public class StoreController {
     @PostMapping("/stores")
     public ResponseEntity<ApiResponse<StoreResponseDto>> createStore(
             @RequestBody StoreRequestDto dto,
-            @RequestHeader(name = "access") String token
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         //when then given
 
-        return ResponseEntity.ok(ApiResponse.success(storeService.createStore(dto, token)));
+        return ResponseEntity.ok(ApiResponse.success(storeService.createStore(dto, userDetails)));
     }
 
     // [PUT] 가게 정보 수정
@@ -68,12 +70,12 @@ public class StoreController {
     public ResponseEntity<ApiResponse<StoreResponseDto>> updateStore(
             @PathVariable("storeId") UUID storeId,
             @RequestBody StoreUpdateRequestDto requestDto,
-            @RequestHeader(name  = "access") String token
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
 
         return ResponseEntity.ok(ApiResponse.success(
-                storeService.updateStore(storeId, requestDto, token)
+                storeService.updateStore(storeId, requestDto, userDetails)
         ));
     }
 
@@ -81,10 +83,10 @@ public class StoreController {
     @DeleteMapping("stores/{storeId}")
     public ResponseEntity<ApiResponse<String>> deleteStore(
             @PathVariable("storeId") UUID storeId,
-            @RequestHeader(name  = "access") String token
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        return ResponseEntity.ok(ApiResponse.success(storeService.deleteStore(storeId, token)));
+        return ResponseEntity.ok(ApiResponse.success(storeService.deleteStore(storeId, userDetails)));
     }
 
     // [조회] 모든 카테고리
@@ -102,31 +104,28 @@ public class StoreController {
     // [등록] 카테고리
     @PostMapping("/categories")
     public ResponseEntity<ApiResponse<CategoryResponseDto>> createCategory(
-            @RequestBody CategoryRequestDto requestDto,
-            @RequestHeader(name = "access") String token
+            @RequestBody CategoryRequestDto requestDto
     ) {
-        return ResponseEntity.ok(ApiResponse.success(storeService.createCategory(requestDto, token)));
+        return ResponseEntity.ok(ApiResponse.success(storeService.createCategory(requestDto)));
     }
 
     // [수정] 카테고리
     @PutMapping("/categories/{categoryId}")
     public ResponseEntity<ApiResponse<CategoryResponseDto>> updateCategory(
             @PathVariable(name="categoryId") UUID categoryId,
-            @RequestBody CategoryRequestDto requestDto,
-            @RequestHeader(name = "access") String token
+            @RequestBody CategoryRequestDto requestDto
     ) {
 
-        return ResponseEntity.ok(ApiResponse.success(storeService.updateCategory(categoryId, requestDto, token)));
+        return ResponseEntity.ok(ApiResponse.success(storeService.updateCategory(categoryId, requestDto)));
     }
 
     // [삭제] 카테고리
     @DeleteMapping("/categories/{categoryId}")
     public ResponseEntity<ApiResponse<String>> deleteCategory(
-            @PathVariable(name="categoryId") UUID categoryId,
-            @RequestHeader(name = "access") String token
+            @PathVariable(name="categoryId") UUID categoryId
     ) {
 
-        return ResponseEntity.ok(ApiResponse.success(storeService.deleteCategory(categoryId, token)));
+        return ResponseEntity.ok(ApiResponse.success(storeService.deleteCategory(categoryId)));
     }
 
     // [조회] 모든 지역
@@ -144,31 +143,28 @@ public class StoreController {
     // [등록] 지역
     @PostMapping("/regions")
     public ResponseEntity<ApiResponse<RegionResponseDto>> createRegion(
-            @RequestBody RegionRequestDto requestDto,
-            @RequestHeader(name = "access") String token
+            @RequestBody RegionRequestDto requestDto
     ) {
 
-        return ResponseEntity.ok(ApiResponse.success(storeService.createRegion(requestDto, token)));
+        return ResponseEntity.ok(ApiResponse.success(storeService.createRegion(requestDto)));
     }
 
     // [수정] 지역
     @PutMapping("/regions/{regionId}")
     public ResponseEntity<ApiResponse<RegionResponseDto>> updateRegion(
             @PathVariable(name = "regionId") UUID regionId,
-            @RequestBody RegionRequestDto requestDto,
-            @RequestHeader(name = "access") String token
+            @RequestBody RegionRequestDto requestDto
     ) {
 
-        return ResponseEntity.ok(ApiResponse.success(storeService.updateRegion(regionId, requestDto, token)));
+        return ResponseEntity.ok(ApiResponse.success(storeService.updateRegion(regionId, requestDto)));
     }
 
     // [삭제] 지역
     @DeleteMapping("/regions/{regionId}")
     public ResponseEntity<ApiResponse<String>> deleteRegion(
-            @PathVariable(name = "regionId") UUID regionId,
-            @RequestHeader(name = "access") String token
+            @PathVariable(name = "regionId") UUID regionId
     ) {
-        return ResponseEntity.ok(ApiResponse.success(storeService.deleteRegion(regionId, token)));
+        return ResponseEntity.ok(ApiResponse.success(storeService.deleteRegion(regionId)));
     }
 
 
@@ -176,10 +172,9 @@ public class StoreController {
     @PostMapping("/stores/{storeId}/rating")
     public ResponseEntity<String> addStoreRating(
             @PathVariable(name = "storeId") UUID storeId,
-            @RequestBody RatingDto ratingDto,
-            @RequestHeader("access") String token
+            @RequestBody RatingDto ratingDto
     ) {
-        storeService.addStoreRating(storeId, ratingDto.getStar(), token);
+        storeService.addStoreRating(storeId, ratingDto.getStar());
         return ResponseEntity.ok("업체 평점이 업데이트되었습니다.");
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.teamsparta14.order_service.domain.BaseEntity;
 import com.teamsparta14.order_service.store.dto.StoreUpdateRequestDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.util.List;
@@ -32,8 +33,6 @@ public class Store extends BaseEntity {
     @Column(nullable = false, length = 15)
     private String phone;
 
-    private boolean isDeleted;
-
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private StoreStatus status;
@@ -49,10 +48,13 @@ public class Store extends BaseEntity {
 
     private double averageRating = 0;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     // 삭제
     public void deleteStore(String deletedBy) {
-        setDeleted(java.time.LocalDateTime.now(), deletedBy);
-        this.isDeleted = true;
+        softDelete(deletedBy);
     }
 
     // 업데이트
@@ -5,16 +5,14 @@ import com.teamsparta14.order_service.store.dto.*;
 import com.teamsparta14.order_service.store.entity.*;
 import com.teamsparta14.order_service.store.repository.*;
 import com.teamsparta14.order_service.user.dto.CustomUserDetails;
-import com.teamsparta14.order_service.user.entity.UserEntity;
-import com.teamsparta14.order_service.user.jwt.JWTUtil;
-import com.teamsparta14.order_service.user.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.webjars.NotFoundException;
@@ -23,8 +21,6 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import static com.teamsparta14.order_service.store.entity.QRegion.region;
-
 @Service
 @RequiredArgsConstructor
 public class StoreService {
@@ -33,9 +29,9 @@ public class StoreService {
     private final StoreCategoryRepository storeCategoryRepository;
     private final CategoryRepository categoryRepository;
     private final RegionRepository regionRepository;
-    private final JWTUtil jwtUtil;
 
     // [조회] 가게
+    @Transactional(readOnly = true)
     public Page<StoreResponseDto> getAllStores(Pageable pageable, StoreStatus status) {
         Page<Store> stores;
 
@@ -49,9 +45,8 @@ public class StoreService {
     }
 
     // [조회] 특정 가게
-    public Store getStoreById(UUID storeId, String token) {
-
-        String userName = jwtUtil.getUsername(token);
+    @Transactional(readOnly = true)
+    public Store getStoreById(UUID storeId) {
 
         return storeRepository.findById(storeId)
                 .filter(store -> !store.isDeleted()) // 삭제된 가게 필터링
@@ -60,14 +55,10 @@ public class StoreService {
 
     // [등록] 가게
     @Transactional
-    public StoreResponseDto createStore(StoreRequestDto dto, String token) {
+    @PreAuthorize("hasAnyRole('OWNER', 'MASTER')")
+    public StoreResponseDto createStore(StoreRequestDto dto, CustomUserDetails userDetails) {
 
-        String createdBy = jwtUtil.getUsername(token);
-        String userRole = jwtUtil.getRole(token);
-
-        if (!"ROLE_MASTER".equals(userRole) && !"ROLE_OWNER".equals(userRole)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
+        String createdBy = userDetails.getUsername();
 
         Region region = regionRepository.findByRegionName(dto.getRegionName())
                 .orElseThrow(() -> new RuntimeException("해당 지역을 찾을 수 없습니다: " + dto.getRegionName()));
@@ -77,7 +68,6 @@ public class StoreService {
                 .storeName(dto.getStoreName())
                 .address(dto.getAddress())
                 .phone(dto.getPhone())
-                .isDeleted(false)
                 .status(dto.getStatus() != null ? dto.getStatus() : StoreStatus.OPEN)
                 .region(region)
                 .build();
@@ -99,23 +89,14 @@ public class StoreService {
 
     // [수정] 가게
     @Transactional
-    public StoreResponseDto updateStore(UUID storeId, StoreUpdateRequestDto requestDto, String token) {
+    @Retryable(retryFor = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 50, multiplier = 2))
+    @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'MASTER')")
+    public StoreResponseDto updateStore(UUID storeId, StoreUpdateRequestDto requestDto, CustomUserDetails userDetails) {
 
-        String userName = jwtUtil.getUsername(token);
-        String userRole = jwtUtil.getRole(token);
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new NotFoundException("해당 가게를 찾을 수 없습니다."));
 
-        // OWNER는 본인 가게만 삭제 가능
-        if ("ROLE_OWNER".equals(userRole)) {
-            if (store.getCreatedBy() == null || !store.getCreatedBy().equals(userName)) {
-                throw new IllegalArgumentException("본인의 가게만 삭제할 수 있습니다.");
-            }
-        }
-
-        if ("ROLE_USER".equals(userRole) ) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
+        checkStoreOwner(store, userDetails, "본인의 가게만 수정할 수 있습니다.");
 
         store.update(requestDto);
         storeRepository.save(store);
@@ -125,31 +106,28 @@ public class StoreService {
 
     // [삭제] 가게
     @Transactional
-    public String deleteStore(UUID storeId, String token) {
-        String userName = jwtUtil.getUsername(token);
-        String userRole = jwtUtil.getRole(token);
+    @PreAuthorize("hasAnyRole('OWNER', 'MANAGER', 'MASTER')")
+    public String deleteStore(UUID storeId, CustomUserDetails userDetails) {
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new RuntimeException("해당 가게를 찾을 수 없습니다."));
 
-        // OWNER는 본인 가게만 삭제 가능
-        if ("ROLE_OWNER".equals(userRole)) {
-            if (store.getCreatedBy() == null || !store.getCreatedBy().equals(userName)) {
-                throw new IllegalArgumentException("본인의 가게만 삭제할 수 있습니다.");
-            }
-        }
-
-        if ("ROLE_USER".equals(userRole) ) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
+        checkStoreOwner(store, userDetails, "본인의 가게만 삭제할 수 있습니다.");
 
-        store.setDeleted(true);
-        store.setDeletedBy(userName);
+        store.deleteStore(userDetails.getUsername());
         storeRepository.save(store);
 
         return "가게 ID " + storeId + "가 성공적으로 삭제되었습니다.";
     }
 
 
+    // OWNER는 본인 가게만 수정/삭제 가능
+    private void checkStoreOwner(Store store, CustomUserDetails userDetails, String message) {
+        if (userDetails.getRole() == Role.ROLE_OWNER
+                && (store.getCreatedBy() == null || !store.getCreatedBy().equals(userDetails.getUsername()))) {
+            throw new AccessDeniedException(message);
+        }
+    }
+
     // [조회] 카테고리
     private List<String> getCategoryNames(UUID storeId) {
         Store store = storeRepository.findById(storeId)
@@ -178,6 +156,7 @@ public class StoreService {
     }
 
     // [조회] 모든 카테고리
+    @Transactional(readOnly = true)
     public List<CategoryResponseDto> getAllCategories() {
         return categoryRepository.findAll().stream()
                 .map(CategoryResponseDto::new)
@@ -185,6 +164,7 @@ public class StoreService {
     }
 
     // [조회] 특정 카테고리
+    @Transactional(readOnly = true)
     public CategoryResponseDto getCategoryById(UUID categoryId) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new RuntimeException("해당 카테고리를 찾을 수 없습니다."));
@@ -193,19 +173,14 @@ public class StoreService {
 
     // [등록] 카테고리
     @Transactional
-    public CategoryResponseDto createCategory(CategoryRequestDto dto, String token) {
+    @PreAuthorize("hasRole('MASTER')")
+    public CategoryResponseDto createCategory(CategoryRequestDto dto) {
 
         boolean exists = categoryRepository.existsByCategoryName(dto.getCategoryName());
         if (exists) {
             throw new IllegalArgumentException("이미 존재하는 카테고리입니다.");
         }
 
-        String userRole = jwtUtil.getRole(token);
-
-        if (!"ROLE_MASTER".equals(userRole)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
-
         Category category = Category.builder()
                 .categoryName(dto.getCategoryName())
                 .build();
@@ -216,40 +191,31 @@ public class StoreService {
 
     // [수정] 카테고리
     @Transactional
-    public CategoryResponseDto updateCategory(UUID categoryId, CategoryRequestDto dto, String token) {
+    @PreAuthorize("hasRole('MASTER')")
+    public CategoryResponseDto updateCategory(UUID categoryId, CategoryRequestDto dto) {
 
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 카테고리를 찾을 수 없습니다."));
 
-        String userRole = jwtUtil.getRole(token);
-
-        if (!"ROLE_MASTER".equals(userRole)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
-
         category.setCategoryName(dto.getCategoryName());
         return new CategoryResponseDto(categoryRepository.save(category));
     }
 
     // [삭제] 카테고리
     @Transactional
-    public String deleteCategory(UUID categoryId, String token) {
+    @PreAuthorize("hasRole('MASTER')")
+    public String deleteCategory(UUID categoryId) {
 
         if (!categoryRepository.existsById(categoryId)) {
             throw new IllegalArgumentException("해당 카테고리를 찾을 수 없습니다.");
         }
 
-        String userRole = jwtUtil.getRole(token);
-
-        if (!"ROLE_MASTER".equals(userRole)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
-
         categoryRepository.deleteById(categoryId);
         return "카테고리 ID " + categoryId + "가 성공적으로 삭제되었습니다.";
     }
 
     // [조회] 모든 지역
+    @Transactional(readOnly = true)
     public List<RegionResponseDto> getAllRegions() {
         return regionRepository.findAll().stream()
                 .map(RegionResponseDto::new)
@@ -257,6 +223,7 @@ public class StoreService {
     }
 
     // [조회] 특정 지역
+    @Transactional(readOnly = true)
     public RegionResponseDto getRegionById(UUID regionId) {
         Region region = regionRepository.findById(regionId)
                 .orElseThrow(() -> new RuntimeException("해당 지역을 찾을 수 없습니다."));
@@ -265,19 +232,14 @@ public class StoreService {
 
     // [등록] 지역
     @Transactional
-    public RegionResponseDto createRegion(RegionRequestDto dto, String token) {
+    @PreAuthorize("hasRole('MASTER')")
+    public RegionResponseDto createRegion(RegionRequestDto dto) {
 
         boolean exists = regionRepository.existsByRegionName(dto.getRegionName());
         if (exists) {
             throw new IllegalArgumentException("이미 존재하는 지역입니다.");
         }
 
-        String userRole = jwtUtil.getRole(token);
-
-        if (!"ROLE_MASTER".equals(userRole)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
-
         Region region = Region.builder()
                 .regionName(dto.getRegionName())
                 .build();
@@ -288,18 +250,12 @@ public class StoreService {
 
     // [수정] 지역
     @Transactional
-    public RegionResponseDto updateRegion(UUID regionId, RegionRequestDto dto, String token) {
-
-        String userRole = jwtUtil.getRole(token);
+    @PreAuthorize("hasRole('MASTER')")
+    public RegionResponseDto updateRegion(UUID regionId, RegionRequestDto dto) {
 
         Region region = regionRepository.findById(regionId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 지역을 찾을 수 없습니다."));
 
-
-        if (!"ROLE_MASTER".equals(userRole)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
-
         region.setRegionName(dto.getRegionName());
         regionRepository.save(region);
         return new RegionResponseDto(region);
@@ -308,33 +264,25 @@ public class StoreService {
 
     // [삭제] 지역
     @Transactional
-    public String deleteRegion(UUID regionId, String token) {
+    @PreAuthorize("hasRole('MASTER')")
+    public String deleteRegion(UUID regionId) {
 
         if (!regionRepository.existsById(regionId)) {
             throw new IllegalArgumentException("해당 지역을 찾을 수 없습니다.");
         }
 
-        String userRole = jwtUtil.getRole(token);
-
-        if (!"ROLE_MASTER".equals(userRole)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
-
         regionRepository.deleteById(regionId);
         return "지역 ID " + regionId + "가 성공적으로 삭제되었습니다.";
     }
 
     // [수정] 점수
+    // 동시에 들어온 리뷰끼리 평균이 덮어써지지 않도록 충돌 시 최신 값으로 다시 계산
     @Transactional
-    public void addStoreRating(UUID storeId, int newStar, String token) {
-
-        String userRole = jwtUtil.getRole(token);
-
-        if (!"ROLE_USER".equals(userRole)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 현재 역할: " + userRole);
-        }
+    @Retryable(retryFor = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 50, multiplier = 2))
+    @PreAuthorize("hasRole('USER')")
+    public void addStoreRating(UUID storeId, int newStar) {
 
-        Store store = getStoreById(storeId, token);
+        Store store = getStoreById(storeId);
 
         // 기존 리뷰 개수, 평균 평점
         int totalReviewCount = store.getTotalReviewCount();
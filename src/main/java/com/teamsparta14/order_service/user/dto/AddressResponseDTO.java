@@ -1,5 +1,6 @@
 package com.teamsparta14.order_service.user.dto;
 
+import com.teamsparta14.order_service.user.entity.AddressEntity;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,4 +11,12 @@ public class AddressResponseDTO {
     private UUID id;
     private String address;
     private String memo;
+
+    public static AddressResponseDTO from(AddressEntity addressEntity) {
+        AddressResponseDTO addressResponseDTO = new AddressResponseDTO();
+        addressResponseDTO.setId(addressEntity.getId());
+        addressResponseDTO.setAddress(addressEntity.getAddress());
+        addressResponseDTO.setMemo(addressEntity.getMemo());
+        return addressResponseDTO;
+    }
 }
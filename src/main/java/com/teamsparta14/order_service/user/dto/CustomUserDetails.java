@@ -4,32 +4,29 @@ package com.teamsparta14.order_service.user.dto;
 import com.teamsparta14.order_service.global.enums.Role;
 import com.teamsparta14.order_service.user.entity.UserEntity;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 public class CustomUserDetails implements UserDetails {
 
     private final UserEntity userEntity;
+    private final List<GrantedAuthority> authorities;
 
     public CustomUserDetails(UserEntity userEntity){
         this.userEntity = userEntity;
+        this.authorities = List.of(new SimpleGrantedAuthority(userEntity.getRole().toString()));
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Collection<GrantedAuthority> collection = new ArrayList<>();
-
-        collection.add(new GrantedAuthority() {
-            @Override
-            public String getAuthority() {
-                return userEntity.getRole().toString();
-            }
-        });
+        return authorities;
+    }
 
-        return collection;
+    public Role getRole() {
+        return userEntity.getRole();
     }
 
     @Override
@@ -0,0 +1,5 @@
+package com.teamsparta14.order_service.user.dto;
+
+//로그인 요청 본문 (username, password)
+public record LoginRequestDTO(String username, String password) {
+}
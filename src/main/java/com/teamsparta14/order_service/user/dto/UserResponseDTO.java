@@ -1,6 +1,7 @@
 package com.teamsparta14.order_service.user.dto;
 
 import com.teamsparta14.order_service.global.enums.Role;
+import com.teamsparta14.order_service.user.entity.UserEntity;
 import lombok.Data;
 
 @Data
@@ -8,4 +9,12 @@ public class UserResponseDTO {
     private String username;
     private String userNickname;
     private Role role;
+
+    public static UserResponseDTO from(UserEntity userEntity) {
+        UserResponseDTO userResponseDTO = new UserResponseDTO();
+        userResponseDTO.setUsername(userEntity.getUsername());
+        userResponseDTO.setUserNickname(userEntity.getUserNickname());
+        userResponseDTO.setRole(userEntity.getRole());
+        return userResponseDTO;
+    }
 }
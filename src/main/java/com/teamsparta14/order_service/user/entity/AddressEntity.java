@@ -1,6 +1,7 @@
 package com.teamsparta14.order_service.user.entity;
 
 import com.teamsparta14.order_service.domain.BaseEntity;
+import com.teamsparta14.order_service.user.dto.AddressRequestDTO;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,7 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "p_address")
+@Table(name = "p_address", indexes = @Index(name = "idx_address_username", columnList = "username"))
 public class AddressEntity extends BaseEntity {
     @Id
     @UuidGenerator
@@ -28,4 +29,12 @@ public class AddressEntity extends BaseEntity {
 
     @Column(name = "memo", columnDefinition = "TEXT")
     private String memo;
+
+    public static AddressEntity from(AddressRequestDTO requestDTO, String username) {
+        AddressEntity addressEntity = new AddressEntity();
+        addressEntity.setUsername(username);
+        addressEntity.setAddress(requestDTO.getAddress());
+        addressEntity.setMemo(requestDTO.getMemo());
+        return addressEntity;
+    }
 }
@@ -5,17 +5,27 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
+//예전 refresh/expiration 컬럼이 있는 테이블은 db/migration/refresh_token_hash.sql로 먼저 변환
 @Entity
 @Getter
 @Setter
-@Table(name = "p_refresh")
+@Table(name = "p_refresh", indexes = {
+        @Index(name = "uk_refresh_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_expires_at", columnList = "expires_at")
+})
 public class RefreshEntity extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String username;
-    private String refresh;
-    private String expiration;
-}
 
+    //refresh 토큰 원문 대신 SHA-256 값(64자)을 저장
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
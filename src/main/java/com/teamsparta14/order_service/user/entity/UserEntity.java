@@ -1,6 +1,7 @@
 package com.teamsparta14.order_service.user.entity;
 import com.teamsparta14.order_service.domain.BaseEntity;
 import com.teamsparta14.order_service.global.enums.Role;
+import com.teamsparta14.order_service.user.dto.UserRequestDTO;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.Getter;
@@ -31,11 +32,18 @@ public class UserEntity extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private Role role;
 
-    @Column(nullable = false)
-    private boolean isDeleted = false;
+    //회원가입 요청으로 엔티티 생성 (비밀번호는 암호화된 값을 받음)
+    public static UserEntity from(UserRequestDTO requestDTO, String encodedPassword, Role role) {
+        UserEntity userEntity = new UserEntity();
+        userEntity.setUsername(requestDTO.getUsername());
+        userEntity.setPassword(encodedPassword);
+        userEntity.setUserNickname(requestDTO.getUserNickname());
+        userEntity.setRole(role);
+        return userEntity;
+    }
 
-    public void delete_user(boolean b){
-        this.isDeleted = b;
+    public void delete_user(String deletedBy){
+        softDelete(deletedBy);
     }
 
     @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
@@ -1,7 +1,7 @@
 package com.teamsparta14.order_service.user.jwt;
 
 
-import com.teamsparta14.order_service.user.repository.RefreshRepository;
+import com.teamsparta14.order_service.user.service.RefreshTokenStore;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,11 +17,11 @@ import java.io.IOException;
 public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
-    public CustomLogoutFilter(JWTUtil jwtUtil, RefreshRepository refreshRepository){
+    public CustomLogoutFilter(JWTUtil jwtUtil, RefreshTokenStore refreshTokenStore){
         this.jwtUtil = jwtUtil;
-        this.refreshRepository = refreshRepository;
+        this.refreshTokenStore = refreshTokenStore;
 
     }
 
@@ -82,19 +82,15 @@ public class CustomLogoutFilter extends GenericFilterBean {
             return;
         }
 
-        //DB에 refresh 토큰이 저장되어 있는지 확인
-        Boolean isExist = refreshRepository.existsByRefresh(refresh);
-        if(!isExist){
+        //로그아웃 진행
+        //refresh 토큰 제거, 저장되어 있지 않던 토큰이면 실패 처리
+        if(!refreshTokenStore.revoke(refresh)){
 
             //에러메세지나 적절한 만료되었다는 메세지를 전달해주면 된다
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        //로그아웃 진행
-        //refresh db에서 토큰 제거
-        refreshRepository.deleteByRefresh(refresh);
-
         //Refresh 토큰 삭제 후, cookie값을 null로 처리해준다.
         //유효시간 값과 path 값, credential 값 등 여러가지를 처리해준다.
         Cookie cookie = new Cookie("refresh",null);
@@ -4,6 +4,7 @@ package com.teamsparta14.order_service.user.jwt;
 import com.teamsparta14.order_service.global.enums.Role;
 import com.teamsparta14.order_service.user.dto.CustomUserDetails;
 import com.teamsparta14.order_service.user.entity.UserEntity;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -16,11 +17,15 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 
 //요청에 대해서 한번만 동작하는 OncePerRequestFilter를 상속받는다
 public class JWTFilter extends OncePerRequestFilter {
 
+    //에러 응답 본문은 미리 바이트로 만들어두고 그대로 씀
+    private static final byte[] EXPIRED_BODY = "access token expired".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INVALID_BODY = "invalid access token".getBytes(StandardCharsets.UTF_8);
+
     JWTUtil jwtUtil;
     public JWTFilter(JWTUtil jwtUtil){
         this.jwtUtil = jwtUtil;
@@ -37,36 +42,27 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        //토큰 만료 여부 확인, 만료시 다음 필터로 넘기지 않음
+        //토큰은 요청당 한 번만 파싱, 만료시 다음 필터로 넘기지 않음
+        Claims claims;
         try{
-            jwtUtil.isExpired(accessToken);
+            claims = jwtUtil.parse(accessToken);
         }catch (ExpiredJwtException e){
 
-            //response body
-            PrintWriter writer = response.getWriter();
-            writer.print("access token expired");
-
-            //res status code
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            writeUnauthorized(response, EXPIRED_BODY);
             return;
         }
 
         //토큰이 access 토큰인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(accessToken);
-
-        if(!category.equals("access")){
-            //response body
-            PrintWriter writer = response.getWriter();
-            writer.print("invalid access token");
+        String category = claims.get("category", String.class);
 
-            //response status code
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        if(!"access".equals(category)){
+            writeUnauthorized(response, INVALID_BODY);
             return;
         }
 
         //user정보 가져오기
-        String username = jwtUtil.getUsername(accessToken);
-        String role = jwtUtil.getRole(accessToken);
+        String username = claims.get("username", String.class);
+        String role = claims.get("role", String.class);
 
         UserEntity userEntity = new UserEntity();
         userEntity.setUsername(username);
@@ -79,4 +75,11 @@ public class JWTFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request,response);
     }
+
+    private void writeUnauthorized(HttpServletResponse response, byte[] body) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("text/plain;charset=UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
 }
@@ -2,6 +2,7 @@ package com.teamsparta14.order_service.user.jwt;
 
 
 import com.teamsparta14.order_service.global.enums.Role;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -21,6 +22,11 @@ public class JWTUtil {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
     }
 
+    //서명 검증 + 만료 확인 후 claim 전체 반환 (만료 시 ExpiredJwtException)
+    public Claims parse(String token){
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
     //아래 2개의 메서드는 토큰을 검증하는 로직을 담고 있다. getUsername, isExpired
     public String getUsername(String token){
         return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username",String.class);
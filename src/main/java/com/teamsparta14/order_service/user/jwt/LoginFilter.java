@@ -1,17 +1,23 @@
 package com.teamsparta14.order_service.user.jwt;
 
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.teamsparta14.order_service.global.enums.Role;
 import com.teamsparta14.order_service.global.exception.BaseException;
 import com.teamsparta14.order_service.global.response.ApiResponse;
 import com.teamsparta14.order_service.global.response.ResponseCode;
+import com.teamsparta14.order_service.user.dto.LoginRequestDTO;
+import com.teamsparta14.order_service.user.service.LoginAttemptLimiter;
+import com.teamsparta14.order_service.user.service.PasswordHashExecutor;
 import com.teamsparta14.order_service.user.service.TokenReissueService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,18 +30,41 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
+    private static final String LOGIN_USERNAME_ATTRIBUTE = LoginFilter.class.getName() + ".username";
+
     private final TokenReissueService tokenReissueService;
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final ObjectMapper objectMapper;
+
+    //고정된 응답 본문은 필터 생성 시 한 번만 직렬화
+    private final byte[] successBody;
+    private final byte[] failureBody;
+    private final byte[] throttledBody;
 
-    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, TokenReissueService tokenReissueService) {
+    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, TokenReissueService tokenReissueService,
+                       PasswordHashExecutor passwordHashExecutor, LoginAttemptLimiter loginAttemptLimiter, ObjectMapper objectMapper) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
         this.tokenReissueService = tokenReissueService;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.objectMapper = objectMapper;
+
+        try {
+            this.successBody = objectMapper.writeValueAsBytes(ApiResponse.success("로그인을 성공하였습니다."));
+            this.failureBody = objectMapper.writeValueAsBytes(ApiResponse.fail(ResponseCode.BAD_REQUEST, "아이디 혹은 비밀번호를 다시 입력해주세요"));
+            this.throttledBody = objectMapper.writeValueAsBytes(ApiResponse.fail(ResponseCode.TOO_MANY_LOGIN_ATTEMPTS, ResponseCode.TOO_MANY_LOGIN_ATTEMPTS.getMessage()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
         //spring security는 대부분의 로직이 필터 단에서 동작하게 된다. 로그인 또한, 필터에서 처리되고, (자동으로 엔드포인트는 "/login" 이 된다.)
         //UsernamePasswordAuthenticationFilter에서 매핑되어 처리된다. 이 필터를 상속받아 LoginFilter를 만들게 된다.
         //security에서 설정해주는 기본 url("/login")을 /api/auth/login으로 변경
@@ -55,11 +84,10 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         if (request.getContentType() != null && request.getContentType().contains("application/json")) {
             try {
                 // JSON 데이터를 읽어서 파싱
-                ObjectMapper objectMapper = new ObjectMapper();
-                Map requestMap = objectMapper.readValue(request.getInputStream(), Map.class);
+                LoginRequestDTO credentials = readCredentials(request);
 
-                username = String.valueOf(requestMap.get("username"));
-                password = String.valueOf(requestMap.get("password"));
+                username = credentials.username();
+                password = credentials.password();
             } catch (IOException e) {
                 throw new AuthenticationServiceException("Failed to parse JSON request", e);
             }
@@ -73,9 +101,21 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
             throw new AuthenticationServiceException("Username or Password is missing");
         }
 
+        //실패 횟수를 넘긴 username/IP는 비밀번호 비교 없이 바로 거절
+        if (loginAttemptLimiter.isBlocked(username, request.getRemoteAddr())) {
+            throw new LoginThrottledException("Too many failed login attempts");
+        }
+        request.setAttribute(LOGIN_USERNAME_ATTRIBUTE, username);
+
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password);
 
-        return authenticationManager.authenticate(authToken);
+        //BCrypt 비교는 전용 스레드 풀에서 실행 (대기열이 차면 요청 스레드를 붙잡지 않고 거절)
+        try {
+            return passwordHashExecutor.execute(() -> authenticationManager.authenticate(authToken));
+        } catch (RejectedExecutionException e) {
+            request.removeAttribute(LOGIN_USERNAME_ATTRIBUTE);
+            throw new LoginThrottledException("Login is busy");
+        }
 
     }
 
@@ -84,6 +124,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authentication) throws IOException{
         //유저 이름 찾기
         String username = authentication.getName();
+        loginAttemptLimiter.reset(username);
 
         Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
         Iterator<? extends GrantedAuthority> iterator = authorities.iterator();
@@ -101,33 +142,62 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         tokenReissueService.RefreshTokenSave(username,refresh,86400000L*100);
 
         // 로그인 성공
-        ResponseEntity<ApiResponse<String>> responseBody = ResponseEntity.ok().body(ApiResponse.success("로그인을 성공하였습니다."));
-
         response.setHeader("access", access);
         response.addCookie(createCookie("refresh", refresh));
-        response.setStatus(HttpServletResponse.SC_OK);
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        // JSON 변환 후 출력
-        ObjectMapper objectMapper = new ObjectMapper();
-        response.getWriter().write(objectMapper.writeValueAsString(responseBody.getBody()));
+        writeBody(response, HttpServletResponse.SC_OK, successBody);
 
     }
 
     //로그인 실패시 실행하는 메서드
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, org.springframework.security.core.AuthenticationException failed) throws IOException{
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
+        if (failed instanceof LoginThrottledException) {
+            writeBody(response, ResponseCode.TOO_MANY_LOGIN_ATTEMPTS.getHttpStatusCode(), throttledBody);
+            return;
+        }
+
+        //비밀번호 비교까지 간 요청만 실패 횟수에 포함
+        Object username = request.getAttribute(LOGIN_USERNAME_ATTRIBUTE);
+        if (username != null) {
+            loginAttemptLimiter.recordFailure(username.toString(), request.getRemoteAddr());
+        }
+
+        writeBody(response, HttpServletResponse.SC_UNAUTHORIZED, failureBody);
+    }
 
-        // 실패 응답 객체 생성
-        ResponseEntity<ApiResponse<String>> responseBody = ResponseEntity.badRequest().body(ApiResponse.fail(ResponseCode.BAD_REQUEST, "아이디 혹은 비밀번호를 다시 입력해주세요"));
+    //본문을 Map으로 만들지 않고 토큰 단위로 읽어 username, password만 꺼냄
+    private LoginRequestDTO readCredentials(HttpServletRequest request) throws IOException {
+        String username = null;
+        String password = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(request.getInputStream())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new AuthenticationServiceException("Failed to parse JSON request");
+            }
 
-        // JSON 변환 후 출력
-        ObjectMapper objectMapper = new ObjectMapper();
-        response.getWriter().write(objectMapper.writeValueAsString(responseBody.getBody()));
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if ("username".equals(field) && value == JsonToken.VALUE_STRING) {
+                    username = parser.getText();
+                } else if ("password".equals(field) && value == JsonToken.VALUE_STRING) {
+                    password = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return new LoginRequestDTO(username, password);
+    }
+
+    private void writeBody(HttpServletResponse response, int status, byte[] body) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 
     private Cookie createCookie(String key, String value) {
@@ -0,0 +1,11 @@
+package com.teamsparta14.order_service.user.jwt;
+
+import org.springframework.security.core.AuthenticationException;
+
+//로그인 실패 횟수 초과 또는 로그인 요청 과다 (429 응답)
+public class LoginThrottledException extends AuthenticationException {
+
+    public LoginThrottledException(String msg) {
+        super(msg);
+    }
+}
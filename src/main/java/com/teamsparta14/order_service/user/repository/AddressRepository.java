@@ -2,8 +2,12 @@ package com.teamsparta14.order_service.user.repository;
 
 import com.teamsparta14.order_service.user.entity.AddressEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,4 +15,16 @@ import java.util.UUID;
 @Repository
 public interface AddressRepository extends JpaRepository<AddressEntity, UUID> {
     List<AddressEntity> findAllByUsername(String username);
+
+    //본인 배송지일 때만 수정 (bulk update라 modifiedAt/modifiedBy는 직접 넣음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AddressEntity a SET a.address = :address, a.memo = :memo, a.modifiedAt = :now, a.modifiedBy = :username " +
+            "WHERE a.id = :id AND a.username = :username")
+    int updateOwned(@Param("id") UUID id, @Param("username") String username,
+                    @Param("address") String address, @Param("memo") String memo, @Param("now") LocalDateTime now);
+
+    //본인 배송지일 때만 삭제
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AddressEntity a WHERE a.id = :id AND a.username = :username")
+    int deleteOwned(@Param("id") UUID id, @Param("username") String username);
 }
@@ -3,11 +3,23 @@ package com.teamsparta14.order_service.user.repository;
 
 import com.teamsparta14.order_service.user.entity.RefreshEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 public interface RefreshRepository extends JpaRepository<RefreshEntity, Long> {
-    Boolean existsByRefresh(String refresh);
+
+    //삭제된 행 수로 토큰 사용 여부를 판단 (동시에 같은 토큰으로 재발급해도 한 번만 성공)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshEntity r WHERE r.tokenHash = :tokenHash AND r.expiresAt > :now")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
 
     @Transactional
-    void deleteByRefresh(String refresh);
+    @Modifying
+    @Query("DELETE FROM RefreshEntity r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -2,11 +2,21 @@ package com.teamsparta14.order_service.user.repository;
 
 import com.teamsparta14.order_service.user.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByUsername(String username);
+
+    //로그인 시 해시 비용이 바뀐 비밀번호를 다시 저장
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.password = :password WHERE u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
 }
\ No newline at end of file
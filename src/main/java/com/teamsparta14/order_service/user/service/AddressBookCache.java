@@ -0,0 +1,95 @@
+package com.teamsparta14.order_service.user.service;
+
+import com.teamsparta14.order_service.user.dto.AddressResponseDTO;
+import com.teamsparta14.order_service.user.repository.AddressRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+//유저별 배송지 목록 캐시 (배송지 조회, 주문 생성 시 destId 확인에서 같이 사용)
+//최근에 쓴 유저 기준으로 max-users 만큼만 보관하고, 인스턴스마다 따로라서 ttl 로 오래된 목록은 다시 읽음
+@Component
+@RequiredArgsConstructor
+public class AddressBookCache {
+
+    private final AddressRepository addressRepository;
+
+    @Value("${address.cache.max-users:10000}")
+    private int maxUsers;
+
+    @Value("${address.cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    private final Map<String, CachedAddresses> addressBooks = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedAddresses> eldest) {
+            return size() > maxUsers;
+        }
+    };
+
+    public List<AddressResponseDTO> get(String username) {
+        long now = System.currentTimeMillis();
+
+        synchronized (addressBooks) {
+            CachedAddresses cached = addressBooks.get(username);
+            if (cached != null && now - cached.loadedAt() < ttlMs) {
+                return cached.addresses();
+            }
+        }
+
+        return load(username, now);
+    }
+
+    //해당 유저의 배송지인지 확인, 캐시에 없으면 다른 서버에서 추가됐을 수 있으니 한 번 더 읽어봄
+    public boolean isOwnedBy(String username, UUID addressId) {
+        if (contains(get(username), addressId)) {
+            return true;
+        }
+        return contains(load(username, System.currentTimeMillis()), addressId);
+    }
+
+    //배송지 변경 시 호출, 트랜잭션 안이면 커밋 후에 한 번 더 비워서 커밋 전 값이 다시 올라오지 않게 함
+    public void evict(String username) {
+        remove(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(username);
+                }
+            });
+        }
+    }
+
+    private List<AddressResponseDTO> load(String username, long now) {
+        List<AddressResponseDTO> addresses = addressRepository.findAllByUsername(username).stream()
+                .map(AddressResponseDTO::from)
+                .toList();
+
+        synchronized (addressBooks) {
+            addressBooks.put(username, new CachedAddresses(addresses, now));
+        }
+        return addresses;
+    }
+
+    private void remove(String username) {
+        synchronized (addressBooks) {
+            addressBooks.remove(username);
+        }
+    }
+
+    private boolean contains(List<AddressResponseDTO> addresses, UUID addressId) {
+        return addresses.stream().anyMatch(address -> address.getId().equals(addressId));
+    }
+
+    private record CachedAddresses(List<AddressResponseDTO> addresses, long loadedAt) {
+    }
+}
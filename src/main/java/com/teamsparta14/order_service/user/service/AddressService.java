@@ -5,16 +5,14 @@ import com.teamsparta14.order_service.global.response.ApiResponse;
 import com.teamsparta14.order_service.global.response.ResponseCode;
 import com.teamsparta14.order_service.user.dto.AddressRequestDTO;
 import com.teamsparta14.order_service.user.dto.AddressResponseDTO;
-import com.teamsparta14.order_service.user.dto.CustomUserDetails;
 import com.teamsparta14.order_service.user.entity.AddressEntity;
 import com.teamsparta14.order_service.user.jwt.JWTUtil;
 import com.teamsparta14.order_service.user.repository.AddressRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,33 +22,21 @@ public class AddressService {
 
     private final JWTUtil jwtUtil;
     private final AddressRepository addressRepository;
+    private final AddressBookCache addressBookCache;
 
     //배송지 정보 저장
     public void save_address(String token, AddressRequestDTO addressRequestDTO){
-        ModelMapper modelMapper = new ModelMapper();
         String username = jwtUtil.getUsername(token);
 
-        AddressEntity addressEntity = modelMapper.map(addressRequestDTO, AddressEntity.class);
-        addressEntity.setUsername(username);
-
-        addressRepository.save(addressEntity);
+        addressRepository.save(AddressEntity.from(addressRequestDTO, username));
+        addressBookCache.evict(username);
     }
 
     //배송지 정보 조회
     public ApiResponse<List<AddressResponseDTO>> read_address(String token){
-        ModelMapper modelMapper = new ModelMapper();
-        List<AddressResponseDTO> addressResponseDTOS = new ArrayList<>();
-
         String username = jwtUtil.getUsername(token);
 
-        List<AddressEntity> addressEntities = addressRepository.findAllByUsername(username);
-
-        for(AddressEntity addressEntity : addressEntities){
-            AddressResponseDTO addressResponseDTO = modelMapper.map(addressEntity, AddressResponseDTO.class);
-            addressResponseDTOS.add(addressResponseDTO);
-        }
-
-        return ApiResponse.success(addressResponseDTOS);
+        return ApiResponse.success(addressBookCache.get(username));
     }
 
     //배송지 정보 수정
@@ -58,16 +44,15 @@ public class AddressService {
     public ApiResponse<String> update_address(String token, AddressRequestDTO addressRequestDTO,UUID address_id){
         String username = jwtUtil.getUsername(token);
 
-        AddressEntity addressEntity = addressRepository.findById(address_id).orElseThrow(()-> new BaseException("이미 삭제되었거나 없는 배송지 입니다"));
+        //배송지가 해당 유저의 것일 때만 수정 (조회 없이 한 번의 UPDATE)
+        int updated = addressRepository.updateOwned(address_id, username,
+                addressRequestDTO.getAddress(), addressRequestDTO.getMemo(), LocalDateTime.now());
 
-        //배송지가 해당 유저의 것인지 아닌지 체크
-        if(!username.equals(addressEntity.getUsername())){
-            throw new BaseException(ResponseCode.BAD_REQUEST, "적절하지 않은 접근입니다. 유효한 아이디를 설정해주세요");
+        if(updated == 0){
+            throw new BaseException(ResponseCode.BAD_REQUEST, "이미 삭제되었거나 본인의 배송지가 아닙니다.");
         }
 
-        addressEntity.setAddress(addressRequestDTO.getAddress());
-        addressEntity.setMemo(addressRequestDTO.getMemo());
-        addressRepository.save(addressEntity);
+        addressBookCache.evict(username);
         return ApiResponse.success("배송지를 성공적으로 수정하였습니다.");
     }
 
@@ -75,14 +60,14 @@ public class AddressService {
     @Transactional
     public ApiResponse<String> delete_address(String token, UUID address_id){
         String username = jwtUtil.getUsername(token);
-        AddressEntity addressEntity = addressRepository.findById(address_id).orElseThrow(() -> new BaseException("이미 삭제되었거나 없는 배송지 입니다."));
+        //배송지가 해당 유저의 것일 때만 삭제
+        int deleted = addressRepository.deleteOwned(address_id, username);
 
-        //배송지가 해당 유저의 것인지 아닌지 체크
-        if(!username.equals(addressEntity.getUsername())){
-            throw new BaseException(ResponseCode.BAD_REQUEST, "적절하지 않은 접근입니다. 유효한 아이디를 설정해주세요");
+        if(deleted == 0){
+            throw new BaseException(ResponseCode.BAD_REQUEST, "이미 삭제되었거나 본인의 배송지가 아닙니다.");
         }
 
-        addressRepository.delete(addressEntity);
+        addressBookCache.evict(username);
         return ApiResponse.success( "배송지 삭제가 처리 되었습니다");
     }
 
@@ -5,6 +5,7 @@ import com.teamsparta14.order_service.user.entity.UserEntity;
 import com.teamsparta14.order_service.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,7 +14,7 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -27,4 +28,15 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return null;
     }
+
+    //저장된 해시의 BCrypt 비용이 설정값보다 낮으면 로그인 성공 시 새 비용으로 다시 해시해서 저장
+    //(DaoAuthenticationProvider가 upgradeEncoding 결과를 보고 호출)
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+
+        return userRepository.findByUsername(user.getUsername())
+                .<UserDetails>map(CustomUserDetails::new)
+                .orElse(user);
+    }
 }
\ No newline at end of file
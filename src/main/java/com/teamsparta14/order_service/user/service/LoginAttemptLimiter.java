@@ -0,0 +1,88 @@
+package com.teamsparta14.order_service.user.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//로그인 실패 횟수 제한 (username, IP 별 슬라이딩 윈도우, 인스턴스 메모리 기준)
+@Component
+public class LoginAttemptLimiter {
+
+    private final Map<String, Deque<Long>> failures = new ConcurrentHashMap<>();
+
+    @Value("${security.login.window-ms:300000}")
+    private long windowMs;
+
+    @Value("${security.login.max-failures-per-user:5}")
+    private int maxFailuresPerUser;
+
+    @Value("${security.login.max-failures-per-ip:20}")
+    private int maxFailuresPerIp;
+
+    public boolean isBlocked(String username, String ip) {
+        long now = System.currentTimeMillis();
+        return count(userKey(username), now) >= maxFailuresPerUser
+                || count(ipKey(ip), now) >= maxFailuresPerIp;
+    }
+
+    public void recordFailure(String username, String ip) {
+        long now = System.currentTimeMillis();
+        record(userKey(username), now);
+        record(ipKey(ip), now);
+    }
+
+    //로그인 성공 시 해당 계정의 실패 기록 초기화 (IP 기록은 유지)
+    public void reset(String username) {
+        failures.remove(userKey(username));
+    }
+
+    @Scheduled(fixedDelayString = "${security.login.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        failures.entrySet().removeIf(entry -> {
+            synchronized (entry.getValue()) {
+                prune(entry.getValue(), now);
+                return entry.getValue().isEmpty();
+            }
+        });
+    }
+
+    private int count(String key, long now) {
+        Deque<Long> timestamps = failures.get(key);
+        if (timestamps == null) {
+            return 0;
+        }
+
+        synchronized (timestamps) {
+            prune(timestamps, now);
+            return timestamps.size();
+        }
+    }
+
+    private void record(String key, long now) {
+        Deque<Long> timestamps = failures.computeIfAbsent(key, k -> new ArrayDeque<>());
+        synchronized (timestamps) {
+            prune(timestamps, now);
+            timestamps.addLast(now);
+        }
+    }
+
+    private void prune(Deque<Long> timestamps, long now) {
+        while (!timestamps.isEmpty() && timestamps.peekFirst() <= now - windowMs) {
+            timestamps.pollFirst();
+        }
+    }
+
+    private String userKey(String username) {
+        return "user:" + username;
+    }
+
+    private String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+}
@@ -0,0 +1,44 @@
+package com.teamsparta14.order_service.user.service;
+
+import com.teamsparta14.order_service.global.util.HashUtil;
+import com.teamsparta14.order_service.user.entity.RefreshEntity;
+import com.teamsparta14.order_service.user.repository.RefreshRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+//refresh 토큰 저장소 (p_refresh는 토큰 해시로만 조회)
+//검증과 폐기는 DELETE 한 번으로 처리 (지운 행이 있으면 유효한 토큰, 동시에 같은 토큰으로 요청해도 한 번만 성공)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private final RefreshRepository refreshRepository;
+
+    public void save(String username, String refresh, Long expiredMs) {
+        RefreshEntity refreshEntity = new RefreshEntity();
+        refreshEntity.setUsername(username);
+        refreshEntity.setTokenHash(HashUtil.sha256Hex(refresh));
+        refreshEntity.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(expiredMs)));
+        refreshRepository.save(refreshEntity);
+    }
+
+    //토큰 폐기, 만료 전 저장된 토큰을 실제로 지운 경우에만 true (없거나 이미 사용된 토큰이면 false)
+    public boolean revoke(String refresh) {
+        return refreshRepository.deleteByTokenHash(HashUtil.sha256Hex(refresh), LocalDateTime.now()) > 0;
+    }
+
+    //만료된 토큰 일괄 삭제
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 0 * * * *}")
+    public void purgeExpired() {
+        int deleted = refreshRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 refresh 토큰 {}건 삭제", deleted);
+        }
+    }
+}
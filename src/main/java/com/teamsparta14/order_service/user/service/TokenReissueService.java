@@ -2,9 +2,7 @@ package com.teamsparta14.order_service.user.service;
 
 import com.teamsparta14.order_service.global.response.ApiResponse;
 import com.teamsparta14.order_service.global.response.ResponseCode;
-import com.teamsparta14.order_service.user.entity.RefreshEntity;
 import com.teamsparta14.order_service.user.jwt.JWTUtil;
-import com.teamsparta14.order_service.user.repository.RefreshRepository;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,13 +12,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.Date;
-
 @Service
 @RequiredArgsConstructor
 public class TokenReissueService {
 
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JWTUtil jwtUtil;
 
     //토큰 재발급
@@ -28,11 +24,13 @@ public class TokenReissueService {
         //get refresh token
         String refresh = null;
         Cookie[] cookies = request.getCookies();
-        for (Cookie cookie : cookies) {
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
 
-            if (cookie.getName().equals("refresh")) {
+                if (cookie.getName().equals("refresh")) {
 
-                refresh = cookie.getValue();
+                    refresh = cookie.getValue();
+                }
             }
         }
 
@@ -59,11 +57,8 @@ public class TokenReissueService {
             return ResponseEntity.badRequest().body(ApiResponse.fail(ResponseCode.BAD_REQUEST,"유요한 계정이 아닙니다."));
         }
 
-        //토큰이 DB에 존재하는지 파악
-        Boolean isExist = refreshRepository.existsByRefresh(refresh);
-
-        //토큰이 존재하지 않는다면,
-        if(!isExist){
+        //기존 refresh 토큰을 먼저 폐기, 저장소에 없거나 이미 사용된 토큰이면 실패 (같은 토큰으로 동시에 재발급 요청이 와도 한 번만 성공)
+        if(!refreshTokenStore.revoke(refresh)){
             return ResponseEntity.badRequest().body(ApiResponse.fail(ResponseCode.BAD_REQUEST,"유요한 리프레시 토큰이 아닙니다."));
         }
 
@@ -74,8 +69,7 @@ public class TokenReissueService {
         String newAccess = jwtUtil.createJwt("access", username, role,600000L);
         String newRefresh = jwtUtil.createJwt("refresh", username, role,86400000L);
 
-        //기존 refresh 토큰을 DB에서 삭제 후 새로운 refresh 토큰을 저장한다
-        refreshRepository.deleteByRefresh(refresh);
+        //새로운 refresh 토큰을 저장한다
         RefreshTokenSave(username, newRefresh, 86400000L);
 
         //response
@@ -89,13 +83,7 @@ public class TokenReissueService {
 
     //리프레시토큰 저장 로직
     public void RefreshTokenSave(String username, String refresh,Long expiredMs){
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
-        RefreshEntity refreshEntity = new RefreshEntity();
-        refreshEntity.setUsername(username);
-        refreshEntity.setRefresh(refresh);
-        refreshEntity.setExpiration(date.toString());
-
-        refreshRepository.save(refreshEntity);
+        refreshTokenStore.save(username, refresh, expiredMs);
     }
 
     private Cookie createCookie(String key, String value){
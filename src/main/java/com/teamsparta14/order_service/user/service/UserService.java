@@ -15,7 +15,6 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -23,7 +22,6 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
@@ -35,58 +33,40 @@ public class UserService {
 
     //유저 회원가입
     public void user_save(UserRequestDTO userRequestDTO){
-        ModelMapper modelMapper = new ModelMapper();
-
         //비밀번호 암호화
-        userRequestDTO.setPassword(bCryptPasswordEncoder.encode(userRequestDTO.getPassword()));
+        String encodedPassword = bCryptPasswordEncoder.encode(userRequestDTO.getPassword());
 
-        UserEntity userEntity = modelMapper.map(userRequestDTO, UserEntity.class);
-        userEntity.setRole(Role.ROLE_USER);
-        userRepository.save(userEntity);
+        userRepository.save(UserEntity.from(userRequestDTO, encodedPassword, Role.ROLE_USER));
     }
 
     //관리자 회원가입
     public void master_save(UserRequestDTO userRequestDTO){
-        ModelMapper modelMapper = new ModelMapper();
-
         //비밀번호 암호화
-        userRequestDTO.setPassword(bCryptPasswordEncoder.encode(userRequestDTO.getPassword()));
+        String encodedPassword = bCryptPasswordEncoder.encode(userRequestDTO.getPassword());
 
-        UserEntity userEntity = modelMapper.map(userRequestDTO, UserEntity.class);
-        userEntity.setRole(Role.ROLE_MASTER);
-        userRepository.save(userEntity);
+        userRepository.save(UserEntity.from(userRequestDTO, encodedPassword, Role.ROLE_MASTER));
     }
 
     //가게주인 회원가입
     public void owner_save(UserRequestDTO userRequestDTO){
-        ModelMapper modelMapper = new ModelMapper();
-
         //비밀번호 암호화
-        userRequestDTO.setPassword(bCryptPasswordEncoder.encode(userRequestDTO.getPassword()));
+        String encodedPassword = bCryptPasswordEncoder.encode(userRequestDTO.getPassword());
 
-        UserEntity userEntity = modelMapper.map(userRequestDTO, UserEntity.class);
-
-        userEntity.setRole(Role.ROLE_OWNER);
-        userRepository.save(userEntity);
+        userRepository.save(UserEntity.from(userRequestDTO, encodedPassword, Role.ROLE_OWNER));
     }
 
     //매니저 회원가입
     public void manager_save(UserRequestDTO userRequestDTO){
-        ModelMapper modelMapper = new ModelMapper();
-
         //비밀번호 암호화
-        userRequestDTO.setPassword(bCryptPasswordEncoder.encode(userRequestDTO.getPassword()));
+        String encodedPassword = bCryptPasswordEncoder.encode(userRequestDTO.getPassword());
 
-        UserEntity userEntity = modelMapper.map(userRequestDTO, UserEntity.class);
-        userEntity.setRole(Role.ROLE_MANAGER);
-        userRepository.save(userEntity);
+        userRepository.save(UserEntity.from(userRequestDTO, encodedPassword, Role.ROLE_MANAGER));
     }
 
     //user 조회
     public ApiResponse<UserResponseDTO> findUser(String username){
-        ModelMapper modelMapper = new ModelMapper();
         UserEntity userEntity = userRepository.findByUsername(username).orElseThrow(() -> new BaseException("해당 유저를 찾을 수 없습니다."));
-        return ApiResponse.success(modelMapper.map(userEntity,UserResponseDTO.class));
+        return ApiResponse.success(UserResponseDTO.from(userEntity));
     }
 
     //회원 탈퇴 (soft-delete)
@@ -95,8 +75,7 @@ public class UserService {
         String username = jwtUtil.getUsername(token);
         UserEntity userEntity = userRepository.findByUsername(username).orElseThrow(() ->
                 new UsernameNotFoundException("해당 유저를 찾을 수 없습니다."));
-        userEntity.delete_user(true);
-        userEntity.setDeleted(LocalDateTime.now(), username);
+        userEntity.delete_user(username);
     }
 
 
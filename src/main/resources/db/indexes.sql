@@ -0,0 +1,35 @@
+-- JPA(@Index)로 표현할 수 없는 인덱스 (부분 인덱스 등)
+-- 애플리케이션 시작 시 SchemaIndexInitializer가 실행하며, 모든 문장은 여러 번 실행해도 안전해야 한다
+-- 인덱스 DDL만 둔다. 데이터를 바꾸거나 테이블을 잠그는 변경은 db/migration/ 스크립트로 운영자가 실행
+
+-- 결제 만료 스케줄러: 오래된 결제 대기 건만 빠르게 찾기 위한 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_payment_pending_created_at
+    ON p_payment (payment_status, created_at)
+    WHERE payment_status = 'PENDING';
+
+-- 리뷰: 가게당 유저 한 명이 삭제되지 않은 리뷰를 하나만 가질 수 있도록
+CREATE UNIQUE INDEX IF NOT EXISTS uk_review_store_user_active
+    ON p_review (store_id, user_name)
+    WHERE is_deleted = false;
+
+-- soft-delete: 조회가 많은 테이블은 삭제되지 않은 행만 인덱스에 담음
+CREATE INDEX IF NOT EXISTS idx_order_user_live
+    ON p_order (user_name, created_at)
+    WHERE is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_order_store_live
+    ON p_order (store_id, created_at)
+    WHERE is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_product_store_live
+    ON p_product (store_id, created_at)
+    WHERE is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_store_status_live
+    ON p_store (status, created_at)
+    WHERE is_deleted = false;
+
+-- 파티션된 p_order: 결제 하나에 주문 하나 (파티션 테이블의 유일 키에는 파티션 키가 들어가야 함)
+-- 변환 스크립트(db/migration/partition_p_order.sql)가 만들지만, 그 전에 변환된 테이블에도 걸리도록
+CREATE UNIQUE INDEX IF NOT EXISTS uk_order_payment
+    ON p_order (payment_id, created_at);
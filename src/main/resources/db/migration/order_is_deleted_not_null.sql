@@ -0,0 +1,19 @@
+-- 예전 p_order.is_deleted(null 허용)를 false로 채우고 NOT NULL/DEFAULT false로 바꾸는 마이그레이션
+-- 애플리케이션이 자동으로 실행하지 않는다. 점검 시간에 운영자가 한 번 직접 실행한다 (partition_p_order.sql보다 먼저)
+--   psql -v ON_ERROR_STOP=1 -f src/main/resources/db/migration/order_is_deleted_not_null.sql
+-- soft-delete 필터와 db/indexes.sql의 부분 인덱스가 모두 is_deleted = false 조건을 쓰므로 null 행은 조회에서 빠진다
+-- UPDATE와 NOT NULL 확인 동안 p_order에 ACCESS EXCLUSIVE 락이 걸린다
+-- ddl-auto로 새로 만든 테이블은 이미 NOT NULL이라 실행할 필요가 없다
+-- 한 트랜잭션이라 중간에 실패하면 전부 되돌아간다
+
+BEGIN;
+
+SET LOCAL lock_timeout = '10s';
+
+LOCK TABLE p_order IN ACCESS EXCLUSIVE MODE;
+
+UPDATE p_order SET is_deleted = false WHERE is_deleted IS NULL;
+ALTER TABLE p_order ALTER COLUMN is_deleted SET DEFAULT false;
+ALTER TABLE p_order ALTER COLUMN is_deleted SET NOT NULL;
+
+COMMIT;
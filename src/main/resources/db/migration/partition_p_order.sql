@@ -0,0 +1,89 @@
+-- p_order를 created_at 월별 범위 파티션 테이블로 바꾸는 마이그레이션
+-- 애플리케이션이 자동으로 실행하지 않는다. 점검 시간에 주문 트래픽을 막고 운영자가 한 번 직접 실행한다
+-- is_deleted가 null 허용인 예전 테이블이면 order_is_deleted_not_null.sql을 먼저 실행한다
+--   psql -v ON_ERROR_STOP=1 -f src/main/resources/db/migration/partition_p_order.sql
+-- 기존 행을 전부 복사하는 동안 p_order에 ACCESS EXCLUSIVE 락이 걸린다 (복사 시간 = 주문 중단 시간)
+-- 한 트랜잭션이라 중간에 실패하면 전부 되돌아간다
+-- 변환 후 애플리케이션(OrderPartitionManager)이 앞으로 쓸 달의 파티션을 매일 만든다
+-- 변환 전에는 OrderPartitionManager가 경고만 남기고 넘어간다
+-- 변환을 마친 환경은 order.partition.required=true 로 두면, 변환되지 않은 DB에 붙었을 때 애플리케이션이 시작되지 않는다
+
+BEGIN;
+
+SET LOCAL lock_timeout = '10s';
+
+LOCK TABLE p_order IN ACCESS EXCLUSIVE MODE;
+
+-- 이미 변환되어 있거나 데이터가 파티션 키/결제 유일성 조건을 어기면 아무것도 바꾸지 않고 중단
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'p_order'::regclass) THEN
+        RAISE EXCEPTION 'p_order is already partitioned';
+    END IF;
+    IF EXISTS (SELECT 1 FROM p_order WHERE created_at IS NULL) THEN
+        RAISE EXCEPTION 'p_order has rows without created_at';
+    END IF;
+    IF EXISTS (SELECT 1 FROM p_order WHERE payment_id IS NOT NULL GROUP BY payment_id HAVING count(*) > 1) THEN
+        RAISE EXCEPTION 'p_order has a payment attached to more than one order';
+    END IF;
+END $$;
+
+-- p_order_product -> p_order 외래 키는 파티션 테이블에 걸 수 없으므로 먼저 지움 (OrderProduct는 외래 키 없이 매핑)
+-- 다른 테이블이 p_order를 참조하고 있으면 아래 DROP TABLE(CASCADE 없음)이 실패해서 전체가 되돌아간다
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT conrelid::regclass AS tbl, conname
+        FROM pg_constraint
+        WHERE contype = 'f'
+          AND confrelid = 'p_order'::regclass
+          AND conrelid = 'p_order_product'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.tbl, fk.conname);
+    END LOOP;
+END $$;
+
+ALTER TABLE p_order RENAME TO p_order_heap;
+
+-- 컬럼/기본값/NOT NULL/CHECK만 복사하고 키와 인덱스는 아래에서 이름을 정해 다시 만든다
+CREATE TABLE p_order (LIKE p_order_heap INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (created_at);
+
+-- 가장 오래된 주문의 달부터 이번 달 + 3개월까지 파티션 생성 (기본 파티션은 두지 않음)
+DO $$
+DECLARE
+    month date := coalesce(date_trunc('month', (SELECT min(created_at) FROM p_order_heap)),
+                           date_trunc('month', now()))::date;
+    last  date := (date_trunc('month', now()) + interval '3 months')::date;
+BEGIN
+    WHILE month <= last LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF p_order FOR VALUES FROM (%L) TO (%L)',
+                       'p_order_' || to_char(month, '"y"YYYY"m"MM'), month, (month + interval '1 month')::date);
+        month := (month + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO p_order SELECT * FROM p_order_heap;
+
+DO $$
+BEGIN
+    IF (SELECT count(*) FROM p_order) <> (SELECT count(*) FROM p_order_heap) THEN
+        RAISE EXCEPTION 'p_order row count mismatch after copy';
+    END IF;
+END $$;
+
+DROP TABLE p_order_heap;
+
+-- 파티션 테이블의 기본 키/유일 키에는 파티션 키(created_at)가 들어가야 한다
+-- 결제 하나에 주문 하나는 (payment_id, created_at) 유일 키 + 주문 생성 시 결제를 새로 만드는 코드(MyOrder.createPayment)로 지킨다
+ALTER TABLE p_order ADD CONSTRAINT pk_order PRIMARY KEY (order_id, created_at);
+ALTER TABLE p_order ADD CONSTRAINT uk_order_payment UNIQUE (payment_id, created_at);
+ALTER TABLE p_order ADD CONSTRAINT fk_order_payment FOREIGN KEY (payment_id) REFERENCES p_payment (payment_id);
+CREATE INDEX idx_order_created_at ON p_order (created_at, order_id);
+CREATE INDEX idx_order_payment ON p_order (payment_id);
+
+COMMIT;
+
+-- 이후 애플리케이션 시작 시 SchemaIndexInitializer가 db/indexes.sql의 부분 인덱스를 파티션 테이블에 다시 만든다
@@ -0,0 +1,47 @@
+-- p_refresh를 토큰 원문(refresh)/문자열 만료 시각(expiration)에서 token_hash/expires_at으로 바꾸는 마이그레이션
+-- 애플리케이션이 자동으로 실행하지 않는다. 새 버전을 배포하기 전에 운영자가 한 번 직접 실행한다
+--   psql -v ON_ERROR_STOP=1 -f src/main/resources/db/migration/refresh_token_hash.sql
+-- ddl-auto는 데이터가 있는 테이블에 NOT NULL 컬럼을 추가하지 못하므로 이 스크립트가 먼저 돌아야 한다
+-- 한 트랜잭션이라 중간에 실패하면 전부 되돌아간다
+
+BEGIN;
+
+SET LOCAL lock_timeout = '10s';
+
+LOCK TABLE p_refresh IN ACCESS EXCLUSIVE MODE;
+
+-- 이미 변환되어 있거나 새로 만든 테이블이면 아무것도 바꾸지 않고 중단
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'p_refresh' AND column_name = 'refresh') THEN
+        RAISE EXCEPTION 'p_refresh has no refresh column (already migrated or created by the new version)';
+    END IF;
+END $$;
+
+ALTER TABLE p_refresh ADD COLUMN IF NOT EXISTS token_hash varchar(64);
+ALTER TABLE p_refresh ADD COLUMN IF NOT EXISTS expires_at timestamp(6);
+
+-- 토큰 원문은 HashUtil.sha256Hex와 같은 값(UTF-8 바이트의 SHA-256, 소문자 16진수)으로 바꾼다
+-- 예전 expiration은 Date.toString() 문자열이라 발급 시각(created_at) + refresh 토큰 수명(24시간)으로 채운다
+UPDATE p_refresh
+SET token_hash = encode(sha256(convert_to(refresh, 'UTF8')), 'hex'),
+    expires_at = coalesce(created_at, now()) + interval '24 hours';
+
+-- 원문이 없거나 이미 만료된 토큰, 같은 토큰이 두 번 저장된 행은 지운다 (해당 사용자는 다시 로그인)
+DELETE FROM p_refresh WHERE refresh IS NULL OR expires_at <= now();
+DELETE FROM p_refresh r
+USING p_refresh other
+WHERE r.token_hash = other.token_hash AND r.id < other.id;
+
+ALTER TABLE p_refresh ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE p_refresh ALTER COLUMN expires_at SET NOT NULL;
+
+-- 토큰 원문은 남기지 않는다
+ALTER TABLE p_refresh DROP COLUMN refresh;
+ALTER TABLE p_refresh DROP COLUMN expiration;
+
+CREATE UNIQUE INDEX uk_refresh_token_hash ON p_refresh (token_hash);
+CREATE INDEX idx_refresh_expires_at ON p_refresh (expires_at);
+
+COMMIT;
@@ -0,0 +1,229 @@
+package com.teamsparta14.order_service.global.client;
+
+import com.teamsparta14.order_service.config.RestTemplateConfig;
+import com.teamsparta14.order_service.order.repository.StoresClient;
+import com.teamsparta14.order_service.product.dto.ProductRequestDto;
+import com.teamsparta14.order_service.product.entity.Product;
+import com.teamsparta14.order_service.product.repository.DescriptionRepository;
+import com.teamsparta14.order_service.product.repository.ProductRepository;
+import com.teamsparta14.order_service.product.service.AIDescription;
+import com.teamsparta14.order_service.product.service.ProductService;
+import com.teamsparta14.order_service.review.dto.ReviewRequestDto;
+import com.teamsparta14.order_service.review.entity.Review;
+import com.teamsparta14.order_service.review.entity.Stars;
+import com.teamsparta14.order_service.review.repository.ReviewRepository;
+import com.teamsparta14.order_service.review.service.ReviewService;
+import com.teamsparta14.order_service.review.service.ReviewSummaryCache;
+import com.teamsparta14.order_service.user.jwt.JWTUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+//test 프로필(remote-call.fail-inside-transaction=true)에서 외부 호출이 있는 서비스가 트랜잭션 밖에서만 호출하는지 확인
+//트랜잭션 안에서 호출하면 RemoteCallGuard가 예외를 던져 테스트가 실패함
+@SpringBootTest(classes = RemoteCallGuardTest.TestConfig.class,
+        properties = {"SERVER_URL=http://store.test", "API_KEY=test-key"})
+@ActiveProfiles("test")
+class RemoteCallGuardTest {
+
+    private static final String STORE_URL = "http://store.test/api/stores/";
+    private static final String AI_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash-latest:generateContent?key=test-key";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private StoresClient storesClient;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("restTemplateServer")
+    private MockRestServiceServer restTemplateServer;
+
+    @Autowired
+    @Qualifier("restClientServer")
+    private MockRestServiceServer restClientServer;
+
+    @MockitoBean
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private DescriptionRepository descriptionRepository;
+
+    @MockitoBean
+    private ReviewRepository reviewRepository;
+
+    @MockitoBean
+    private ReviewSummaryCache reviewSummaryCache;
+
+    @MockitoBean
+    private JWTUtil jwtUtil;
+
+    private final UUID storeId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        restTemplateServer.reset();
+        restClientServer.reset();
+    }
+
+    @Test
+    @DisplayName("test 프로필에서는 트랜잭션 안 외부 호출이 실패한다")
+    void remoteCallInsideTransactionFails() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> storesClient.searchStore(storeId.toString(), "token")))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("상품 등록: 가게 확인과 AI 설명 호출은 트랜잭션 밖에서")
+    void addProductCallsRemoteOutsideTransaction() {
+        expectStoreLookup();
+        restTemplateServer.expect(requestTo(AI_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"설명\"}]}}]}", MediaType.APPLICATION_JSON));
+        given(productRepository.save(any(Product.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(productService.addProduct("token", productRequest()).getDescription()).isEqualTo("설명");
+
+        restTemplateServer.verify();
+    }
+
+    @Test
+    @DisplayName("상품 수정: 가게 확인은 트랜잭션 밖에서")
+    void updateProductCallsRemoteOutsideTransaction() {
+        UUID productId = UUID.randomUUID();
+        expectStoreLookup();
+        given(productRepository.existsByStoreIdAndProductId(storeId, productId)).willReturn(true);
+        given(productRepository.findById(productId)).willReturn(Optional.of(new Product(productRequest(), storeId, "설명")));
+
+        assertThat(productService.updateProduct("token", productId, productRequest()).getProductName()).isEqualTo("김치찌개");
+
+        restTemplateServer.verify();
+    }
+
+    @Test
+    @DisplayName("리뷰 등록: 가게 확인과 별점 전송은 트랜잭션 밖에서")
+    void createReviewCallsRemoteOutsideTransaction() {
+        UUID orderId = UUID.randomUUID();
+        expectStoreLookup();
+        restClientServer.expect(requestTo(STORE_URL + storeId + "/rating"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess());
+        given(jwtUtil.getUsername("token")).willReturn("user");
+        given(reviewRepository.isOrderEligibleForReview(orderId, storeId, "user")).willReturn(true);
+        given(reviewRepository.saveAndFlush(any(Review.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        ReviewRequestDto requestDto = new ReviewRequestDto(storeId, orderId, "맛있어요", Stars.FIVE);
+        assertThat(reviewService.createReview(requestDto, "token").getStar()).isEqualTo(Stars.FIVE);
+
+        restTemplateServer.verify();
+        restClientServer.verify();
+    }
+
+    private void expectStoreLookup() {
+        restTemplateServer.expect(requestTo(STORE_URL + storeId))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{\"message\":\"ok\",\"status\":200,\"data\":{\"id\":\"" + storeId + "\",\"storeName\":\"가게\"}}",
+                        MediaType.APPLICATION_JSON));
+    }
+
+    private ProductRequestDto productRequest() {
+        ProductRequestDto requestDto = new ProductRequestDto();
+        requestDto.setStoreId(storeId);
+        requestDto.setProductName("김치찌개");
+        requestDto.setProductPrice(9000L);
+        requestDto.setProductQuantity(10L);
+        return requestDto;
+    }
+
+    //RestTemplateConfig와 같은 방식으로 가드를 등록하되, 실제 요청 대신 MockRestServiceServer로 응답
+    @Configuration
+    @Import({RemoteCallGuard.class, StoresClient.class, AIDescription.class, ProductService.class, ReviewService.class})
+    static class TestConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        }
+
+        @Bean
+        public PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+            return new TransactionTemplate(transactionManager);
+        }
+
+        @Bean
+        public RestTemplate restTemplate(RemoteCallGuard remoteCallGuard) {
+            return new RestTemplateConfig().restTemplate(remoteCallGuard);
+        }
+
+        @Bean
+        public MockRestServiceServer restTemplateServer(RestTemplate restTemplate) {
+            return MockRestServiceServer.bindTo(restTemplate).build();
+        }
+
+        @Bean
+        public RestClient.Builder restClientBuilder(RemoteCallGuard remoteCallGuard) {
+            return RestClient.builder().requestInterceptor(remoteCallGuard);
+        }
+
+        @Bean
+        public MockRestServiceServer restClientServer(RestClient.Builder restClientBuilder) {
+            return MockRestServiceServer.bindTo(restClientBuilder).build();
+        }
+
+        //서버를 먼저 묶은 뒤 build
+        @Bean
+        public RestClient restClient(RestClient.Builder restClientBuilder,
+                                     @Qualifier("restClientServer") MockRestServiceServer restClientServer) {
+            return restClientBuilder.build();
+        }
+    }
+}
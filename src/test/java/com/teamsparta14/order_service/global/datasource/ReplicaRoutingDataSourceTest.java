@@ -0,0 +1,165 @@
+package com.teamsparta14.order_service.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//원본/복제본 역할을 하는 H2 인메모리 DB 두 개로 라우팅 확인 (각 DB의 db_role 테이블에 자기 이름을 넣어 둠)
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MS = 1000;
+
+    private StubLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        lagMonitor = new StubLagMonitor(replica);
+        lagMonitor.lagMs = 0L;
+        lagMonitor.check();
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로 간다")
+    void readOnlyTransactionUsesReplica() {
+        assertThat(readOnlyDatabase()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖 조회는 원본으로 간다")
+    void writeTransactionUsesPrimary() {
+        assertThat(writeDatabase()).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("방금 쓰기 요청을 한 유저의 읽기는 원본으로 간다")
+    void pinnedUserReadsFromPrimary() {
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(60_000);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("writer", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        //쓰기 요청 성공 -> 고정
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/api/orders"), new MockHttpServletResponse(), null);
+        interceptor.afterCompletion(new MockHttpServletRequest("POST", "/api/orders"), new MockHttpServletResponse(), null, null);
+
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/orders");
+        MockHttpServletResponse readResponse = new MockHttpServletResponse();
+        interceptor.preHandle(read, readResponse, null);
+        try {
+            assertThat(readOnlyDatabase()).isEqualTo("primary");
+        } finally {
+            interceptor.afterCompletion(read, readResponse, null, null);
+        }
+
+        //다른 유저는 고정되지 않음
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("reader", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        MockHttpServletRequest otherRead = new MockHttpServletRequest("GET", "/api/orders");
+        interceptor.preHandle(otherRead, new MockHttpServletResponse(), null);
+        try {
+            assertThat(readOnlyDatabase()).isEqualTo("replica");
+        } finally {
+            interceptor.afterCompletion(otherRead, new MockHttpServletResponse(), null, null);
+        }
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용도 원본으로 가고, 회복되면 다시 복제본으로 간다")
+    void lagFallsBackToPrimary() {
+        lagMonitor.lagMs = MAX_LAG_MS + 1;
+        lagMonitor.check();
+        assertThat(readOnlyDatabase()).isEqualTo("primary");
+
+        lagMonitor.lagMs = MAX_LAG_MS;
+        lagMonitor.check();
+        assertThat(readOnlyDatabase()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제본 지연 확인이 실패하면 원본으로 간다")
+    void lagCheckFailureFallsBackToPrimary() {
+        lagMonitor.failing = true;
+        lagMonitor.check();
+
+        assertThat(readOnlyDatabase()).isEqualTo("primary");
+    }
+
+    //assertThat 오버로드 추론이 모호해지지 않도록 String으로 받아서 넘김
+    private String readOnlyDatabase() {
+        return readOnlyTransaction.execute(status -> currentDatabase());
+    }
+
+    private String writeDatabase() {
+        return writeTransaction.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class);
+    }
+
+    private DataSource database(String role) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE db_role (name VARCHAR(20))");
+        setup.update("INSERT INTO db_role VALUES (?)", role);
+        return dataSource;
+    }
+
+    //H2에는 pg_last_xact_replay_timestamp 등이 없으므로 지연 값만 바꿔 끼움
+    private static class StubLagMonitor extends ReplicaLagMonitor {
+
+        private Long lagMs;
+        private boolean failing;
+
+        StubLagMonitor(DataSource replica) {
+            super(replica, MAX_LAG_MS, 1);
+        }
+
+        @Override
+        protected Long currentLagMs() {
+            if (failing) {
+                throw new DataAccessResourceFailureException("replica down");
+            }
+            return lagMs;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.teamsparta14.order_service.product;
+
+import com.teamsparta14.order_service.config.QueryDslConfig;
+import com.teamsparta14.order_service.global.enums.Role;
+import com.teamsparta14.order_service.order.repository.StoresClient;
+import com.teamsparta14.order_service.product.dto.ProductRequestDto;
+import com.teamsparta14.order_service.product.dto.ProductStockSyncRequestDto;
+import com.teamsparta14.order_service.product.entity.Product;
+import com.teamsparta14.order_service.product.entity.ProductStatus;
+import com.teamsparta14.order_service.product.service.AIDescription;
+import com.teamsparta14.order_service.product.service.ProductService;
+import com.teamsparta14.order_service.store.entity.Region;
+import com.teamsparta14.order_service.store.entity.Store;
+import com.teamsparta14.order_service.store.entity.StoreStatus;
+import com.teamsparta14.order_service.user.dto.CustomUserDetails;
+import com.teamsparta14.order_service.user.entity.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+//상품 변경 API가 실행하는 SQL 문장 수 확인 (Hibernate 통계의 prepared statement 수)
+//상품 + 가게 주인 조회 1번, UPDATE 1번 - 예전처럼 가게 조회/존재 확인/엔티티 로딩이 따로 나가면 실패
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QueryDslConfig.class, ProductService.class})
+class ProductServiceQueryCountTest {
+
+    private static final String OWNER = "owner";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private StoresClient storesClient;
+
+    @MockitoBean
+    private AIDescription aiDescription;
+
+    private Statistics statistics;
+    private UUID storeId;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Region region = entityManager.persist(Region.builder().regionName("서울").build());
+
+        Store store = Store.builder()
+                .storeName("가게")
+                .address("서울시")
+                .phone("010-0000-0000")
+                .status(StoreStatus.OPEN)
+                .region(region)
+                .build();
+        store.setCreatedBy(OWNER);
+        storeId = entityManager.persist(store).getId();
+
+        ProductRequestDto requestDto = new ProductRequestDto();
+        requestDto.setProductName("김치찌개");
+        requestDto.setProductPrice(9000L);
+        requestDto.setProductQuantity(10L);
+        productId = entityManager.persist(new Product(requestDto, storeId, "설명")).getId();
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("상품 상태 변경: 조회 1번 + UPDATE 1번")
+    void updateProductStatus() {
+        productService.updateProductStatus(user(OWNER, Role.ROLE_OWNER), productId, ProductStatus.SOLD_OUT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 수량 변경: 조회 1번 + UPDATE 1번")
+    void updateProductQuantity() {
+        ProductRequestDto requestDto = new ProductRequestDto();
+        requestDto.setProductQuantity(3L);
+
+        productService.updateProductQuantity(user(OWNER, Role.ROLE_OWNER), productId, requestDto);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 삭제: 조회 1번 + UPDATE 1번")
+    void deleteProduct() {
+        productService.deleteProduct(user(OWNER, Role.ROLE_OWNER), productId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재고 일괄 동기화: 가게 주인 조회 1번 + 변경 전 재고 조회 1번 + UPDATE 1번")
+    void syncProductStock() {
+        ProductStockSyncRequestDto requestDto = new ProductStockSyncRequestDto();
+        requestDto.setStoreId(storeId);
+        requestDto.setQuantities(Map.of(productId, 0L));
+
+        productService.syncProductStock(user(OWNER, Role.ROLE_OWNER), requestDto);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("MANAGER는 다른 사람 가게의 상품도 변경할 수 있다 (가게 API와 같은 규칙)")
+    void managerCanUpdateAnyStore() {
+        productService.updateProductStatus(user("manager", Role.ROLE_MANAGER), productId, ProductStatus.SOLD_OUT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 OWNER는 거부되고 UPDATE는 실행되지 않는다")
+    void otherOwnerIsDenied() {
+        assertThatThrownBy(() -> productService.updateProductStatus(user("other", Role.ROLE_OWNER), productId, ProductStatus.SOLD_OUT))
+                .isInstanceOf(AccessDeniedException.class);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private CustomUserDetails user(String username, Role role) {
+        UserEntity userEntity = new UserEntity();
+        userEntity.setUsername(username);
+        userEntity.setRole(role);
+        return new CustomUserDetails(userEntity);
+    }
+}